@@ -1,8 +1,10 @@
 package com.bridge.placement.config;
 
 import com.bridge.placement.entity.Admin;
+import com.bridge.placement.enums.AccountType;
 import com.bridge.placement.enums.Role;
 import com.bridge.placement.repository.AdminRepository;
+import com.bridge.placement.service.AccountDirectory;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,9 +20,11 @@ public class DataInitializer implements CommandLineRunner {
 
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountDirectory accountDirectory;
 
     @Override
     public void run(String... args) {
+        accountDirectory.backfill();
         seedSuperAdmin();
     }
 
@@ -38,7 +42,8 @@ public class DataInitializer implements CommandLineRunner {
         admin.setPassword(passwordEncoder.encode("admin123"));
         admin.setRole(Role.SUPER_ADMIN);
 
-        adminRepository.save(admin);
+        admin = adminRepository.save(admin);
+        accountDirectory.register(admin.getEmail(), AccountType.ADMIN, admin.getId());
         log.info("🚀 Super Admin created → email: {} | password: admin123", adminEmail);
     }
 }
@@ -1,8 +1,11 @@
 package com.bridge.placement.controller;
 
+import com.bridge.placement.dto.response.KanbanCardResponse;
 import com.bridge.placement.entity.Application;
 import com.bridge.placement.entity.Company;
+import com.bridge.placement.entity.PlacementOfficer;
 import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.AccountType;
 import com.bridge.placement.enums.ApplicationStatus;
 import com.bridge.placement.enums.JobStatus;
 import com.bridge.placement.repository.ApplicationRepository;
@@ -11,8 +14,18 @@ import com.bridge.placement.repository.JobRepository;
 import com.bridge.placement.repository.UserRepository;
 import com.bridge.placement.repository.AdminRepository;
 import com.bridge.placement.repository.PlacementOfficerRepository;
+import com.bridge.placement.security.jwt.TokenRevocationList;
 import com.bridge.placement.security.services.BridgeUserDetails;
+import com.bridge.placement.security.services.PrincipalCache;
+import com.bridge.placement.service.AccountDirectory;
+import com.bridge.placement.service.CompanyService;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.UserSkillIndex;
+import com.bridge.placement.service.stats.ApplicationStatusChangedEvent;
+import com.bridge.placement.service.stats.PlacementStatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,13 +33,14 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/admin")
 @RequiredArgsConstructor
 public class AdminController {
 
+    private static final int MAX_KANBAN_PAGE_SIZE = 500;
+
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
@@ -34,6 +48,14 @@ public class AdminController {
     private final ApplicationRepository applicationRepository;
     private final PlacementOfficerRepository placementOfficerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AilsProfileCache ailsProfileCache;
+    private final UserSkillIndex userSkillIndex;
+    private final PlacementStatsService placementStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final AccountDirectory accountDirectory;
+    private final CompanyService companyService;
 
     // ==================== Dashboard Stats ====================
     @GetMapping("/stats")
@@ -43,6 +65,8 @@ public class AdminController {
         stats.put("activeCompanies", companyRepository.countByApproved(true));
         stats.put("activeJobs", jobRepository.countByStatus(JobStatus.OPEN));
         stats.put("pendingApprovals", companyRepository.countByApproved(false));
+        stats.put("totalApplications", placementStatsService.totalApplications());
+        stats.put("studentsPlaced", placementStatsService.count(ApplicationStatus.SELECTED));
         return ResponseEntity.ok(stats);
     }
 
@@ -59,6 +83,7 @@ public class AdminController {
             Company company = companyOpt.get();
             company.setApproved(true);
             companyRepository.save(company);
+            principalCache.invalidate(company.getDomainEmail());
             return ResponseEntity.ok(Map.of("message", "Company approved successfully"));
         }
         return ResponseEntity.notFound().build();
@@ -66,9 +91,8 @@ public class AdminController {
 
     @PostMapping("/company/{id}/reject")
     public ResponseEntity<?> rejectCompany(@PathVariable Long id) {
-        Optional<Company> companyOpt = companyRepository.findById(id);
-        if (companyOpt.isPresent()) {
-            companyRepository.delete(companyOpt.get());
+        if (companyRepository.existsById(id)) {
+            companyService.rejectCompany(id);
             return ResponseEntity.ok(Map.of("message", "Company rejected"));
         }
         return ResponseEntity.notFound().build();
@@ -81,6 +105,8 @@ public class AdminController {
             Company company = companyOpt.get();
             company.setApproved(false);
             companyRepository.save(company);
+            principalCache.invalidate(company.getDomainEmail());
+            tokenRevocationList.revoke(AccountType.COMPANY, company.getId());
             return ResponseEntity.ok(Map.of("message", "Company blocked"));
         }
         return ResponseEntity.notFound().build();
@@ -105,31 +131,25 @@ public class AdminController {
     // ==================== Analytics ====================
     @GetMapping("/placement-stats")
     public ResponseEntity<List<Map<String, Object>>> getPlacementStats() {
-        // Return monthly placement data from applications
-        List<Application> allApps = applicationRepository.findAll();
-        Map<String, Long> monthlyCounts = allApps.stream()
-                .filter(a -> a.getAppliedAt() != null)
-                .collect(Collectors.groupingBy(
-                        a -> a.getAppliedAt().getMonth().toString().substring(0, 3),
-                        Collectors.counting()));
+        // Monthly application counts, from the materialized counters
+        long[] monthlyCounts = placementStatsService.countsByMonthOfYear();
 
         String[] months = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC" };
         List<Map<String, Object>> result = new ArrayList<>();
-        for (String m : months) {
-            result.add(Map.of("name", m, "value", monthlyCounts.getOrDefault(m, 0L)));
+        for (int i = 0; i < months.length; i++) {
+            result.add(Map.of("name", months[i], "value", monthlyCounts[i]));
         }
         return ResponseEntity.ok(result);
     }
 
     @GetMapping("/student-performance")
     public ResponseEntity<List<Map<String, Object>>> getStudentPerformance() {
-        List<Application> allApps = applicationRepository.findAll();
-        long applied = allApps.stream().filter(a -> a.getApplicationStatus() == ApplicationStatus.APPLIED).count();
-        long shortlisted = allApps.stream().filter(a -> a.getApplicationStatus() == ApplicationStatus.SHORTLISTED)
-                .count();
-        long interview = allApps.stream().filter(a -> a.getApplicationStatus() == ApplicationStatus.INTERVIEW).count();
-        long selected = allApps.stream().filter(a -> a.getApplicationStatus() == ApplicationStatus.SELECTED).count();
-        long rejected = allApps.stream().filter(a -> a.getApplicationStatus() == ApplicationStatus.REJECTED).count();
+        Map<ApplicationStatus, Long> byStatus = placementStatsService.statusHistogram();
+        long applied = byStatus.getOrDefault(ApplicationStatus.APPLIED, 0L);
+        long shortlisted = byStatus.getOrDefault(ApplicationStatus.SHORTLISTED, 0L);
+        long interview = byStatus.getOrDefault(ApplicationStatus.INTERVIEW, 0L);
+        long selected = byStatus.getOrDefault(ApplicationStatus.SELECTED, 0L);
+        long rejected = byStatus.getOrDefault(ApplicationStatus.REJECTED, 0L);
 
         return ResponseEntity.ok(List.of(
                 Map.of("name", "Applied", "value", applied),
@@ -175,6 +195,8 @@ public class AdminController {
             user.setApproved(true);
             user.setBlocked(false);
             userRepository.save(user);
+            principalCache.invalidate(user.getEmail());
+            userSkillIndex.update(user, ailsProfileCache.userProfile(user));
             return ResponseEntity.ok(Map.of("message", "User approved successfully"));
         }
         return ResponseEntity.notFound().build();
@@ -185,6 +207,11 @@ public class AdminController {
         Optional<User> userOpt = userRepository.findById(id);
         if (userOpt.isPresent()) {
             userRepository.delete(userOpt.get());
+            principalCache.invalidate(userOpt.get().getEmail());
+            tokenRevocationList.revoke(AccountType.USER, id);
+            accountDirectory.remove(AccountType.USER, id);
+            ailsProfileCache.evictUser(id);
+            userSkillIndex.remove(id);
             return ResponseEntity.ok(Map.of("message", "User rejected and deleted"));
         }
         return ResponseEntity.notFound().build();
@@ -198,6 +225,9 @@ public class AdminController {
             user.setBlocked(true);
             user.setApproved(false);
             userRepository.save(user);
+            principalCache.invalidate(user.getEmail());
+            tokenRevocationList.revoke(AccountType.USER, id);
+            userSkillIndex.remove(id);
             return ResponseEntity.ok(Map.of("message", "User blocked"));
         }
         return ResponseEntity.notFound().build();
@@ -255,8 +285,14 @@ public class AdminController {
     // ==================== Delete Operations ====================
     @DeleteMapping("/user/{id}")
     public ResponseEntity<?> deleteUser(@PathVariable Long id) {
-        if (userRepository.existsById(id)) {
-            userRepository.deleteById(id);
+        Optional<User> userOpt = userRepository.findById(id);
+        if (userOpt.isPresent()) {
+            userRepository.delete(userOpt.get());
+            principalCache.invalidate(userOpt.get().getEmail());
+            tokenRevocationList.revoke(AccountType.USER, id);
+            accountDirectory.remove(AccountType.USER, id);
+            ailsProfileCache.evictUser(id);
+            userSkillIndex.remove(id);
             return ResponseEntity.ok(Map.of("message", "User deleted"));
         }
         return ResponseEntity.notFound().build();
@@ -265,7 +301,7 @@ public class AdminController {
     @DeleteMapping("/company/{id}")
     public ResponseEntity<?> deleteCompany(@PathVariable Long id) {
         if (companyRepository.existsById(id)) {
-            companyRepository.deleteById(id);
+            companyService.deleteCompany(id);
             return ResponseEntity.ok(Map.of("message", "Company deleted"));
         }
         return ResponseEntity.notFound().build();
@@ -273,8 +309,12 @@ public class AdminController {
 
     @DeleteMapping("/officer/{id}")
     public ResponseEntity<?> deleteOfficer(@PathVariable Long id) {
-        if (placementOfficerRepository.existsById(id)) {
-            placementOfficerRepository.deleteById(id);
+        Optional<PlacementOfficer> officerOpt = placementOfficerRepository.findById(id);
+        if (officerOpt.isPresent()) {
+            placementOfficerRepository.delete(officerOpt.get());
+            principalCache.invalidate(officerOpt.get().getEmail());
+            tokenRevocationList.revoke(AccountType.OFFICER, id);
+            accountDirectory.remove(AccountType.OFFICER, id);
             return ResponseEntity.ok(Map.of("message", "Officer deleted"));
         }
         return ResponseEntity.notFound().build();
@@ -282,19 +322,13 @@ public class AdminController {
 
     // ==================== Kanban ====================
     @GetMapping("/student-progress")
-    public ResponseEntity<List<Map<String, Object>>> getStudentProgress() {
-        List<Application> allApps = applicationRepository.findAll();
-        List<Map<String, Object>> result = allApps.stream().map(app -> {
-            Map<String, Object> entry = new HashMap<>();
-            entry.put("id", app.getId());
-            entry.put("name", app.getUser() != null ? app.getUser().getFullName() : "Unknown");
-            entry.put("email", app.getUser() != null ? app.getUser().getEmail() : "");
-            entry.put("job", app.getJob() != null ? app.getJob().getTitle() : "Unknown");
-            entry.put("status", app.getApplicationStatus().name());
-            entry.put("score", app.getAilsScore());
-            return entry;
-        }).collect(Collectors.toList());
-        return ResponseEntity.ok(result);
+    public ResponseEntity<List<KanbanCardResponse>> getStudentProgress(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "200") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_KANBAN_PAGE_SIZE));
+        return ResponseEntity.ok(applicationRepository.findKanbanCards(status,
+                PageRequest.of(Math.max(page, 0), pageSize)));
     }
 
     @PutMapping("/student-progress/{id}")
@@ -303,11 +337,13 @@ public class AdminController {
         if (status == null) {
             return ResponseEntity.badRequest().body(Map.of("message", "Status is required"));
         }
-        Optional<Application> appOpt = applicationRepository.findById(id);
+        Optional<Application> appOpt = applicationRepository.findWithJobAndUserById(id);
         if (appOpt.isPresent()) {
             Application app = appOpt.get();
+            ApplicationStatus previous = app.getApplicationStatus();
             app.setApplicationStatus(ApplicationStatus.valueOf(status));
             applicationRepository.save(app);
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(app, previous));
             return ResponseEntity.ok(Map.of("message", "Progress updated"));
         }
         return ResponseEntity.notFound().build();
@@ -1,8 +1,8 @@
 package com.bridge.placement.controller;
 
 import com.bridge.placement.dto.response.AilsScoreResponse;
+import com.bridge.placement.dto.response.ApplicationSummaryResponse;
 import com.bridge.placement.dto.response.MessageResponse;
-import com.bridge.placement.entity.Application;
 import com.bridge.placement.enums.ApplicationStatus;
 import com.bridge.placement.security.services.BridgeUserDetails;
 import com.bridge.placement.service.ApplicationService;
@@ -35,7 +35,7 @@ public class ApplicationController {
 
     @GetMapping("/officer/applications/{jobId}")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<Application>> getApplications(@PathVariable Long jobId) {
+    public ResponseEntity<List<ApplicationSummaryResponse>> getApplications(@PathVariable Long jobId) {
         return ResponseEntity.ok(applicationService.getApplicationsForJob(jobId));
     }
 
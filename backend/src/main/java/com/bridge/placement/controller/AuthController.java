@@ -16,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -24,8 +26,9 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        return ResponseEntity.ok(authService.authenticateUser(loginRequest));
+    public CompletableFuture<ResponseEntity<AuthResponse>> authenticateUser(
+            @Valid @RequestBody LoginRequest loginRequest) {
+        return authService.authenticateUser(loginRequest).thenApply(ResponseEntity::ok);
     }
 
     @PostMapping("/register-user")
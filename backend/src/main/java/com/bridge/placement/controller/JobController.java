@@ -1,11 +1,18 @@
 package com.bridge.placement.controller;
 
 import com.bridge.placement.dto.request.JobRequest;
+import com.bridge.placement.dto.request.JobSearchCriteria;
+import com.bridge.placement.dto.response.JobSearchPage;
+import com.bridge.placement.dto.response.JobSummaryResponse;
 import com.bridge.placement.entity.Job;
+import com.bridge.placement.enums.JobStatus;
+import com.bridge.placement.enums.JobType;
+import com.bridge.placement.enums.WorkMode;
 import com.bridge.placement.security.services.BridgeUserDetails;
 import com.bridge.placement.service.JobService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,7 +24,10 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -92,10 +102,62 @@ public class JobController {
     }
 
     // Public/User Endpoints
+
+    /**
+     * GET /api/jobs/search
+     * Keyset-paginated: when more results exist, the X-Next-Cursor
+     * header carries the value to pass as {@code cursor} for the next page.
+     * Only OPEN jobs unless another status is asked for.
+     * With {@code q}, results come from the full-text index ranked by
+     * relevance, each with a highlighted snippet; the cursor is then an offset.
+     * {@code type} may repeat (any of); values that are not a JobType are
+     * ignored, and if none is known the result is empty.
+     */
     @GetMapping("/jobs/search")
-    public ResponseEntity<List<Job>> searchJobs(
+    public ResponseEntity<List<JobSummaryResponse>> searchJobs(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String location,
-            @RequestParam(required = false) String type) {
-        return ResponseEntity.ok(jobService.searchJobs(location, type));
+            @RequestParam(required = false) List<String> type,
+            @RequestParam(required = false) WorkMode workMode,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Set<JobType> jobTypes = parseJobTypes(type);
+        if (type != null && !type.isEmpty() && jobTypes.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .text(q)
+                .location(location)
+                .jobTypes(jobTypes)
+                .workMode(workMode)
+                .status(status != null ? status : JobStatus.OPEN)
+                .deadlineFrom(deadlineFrom)
+                .skill(skill)
+                .build();
+        JobSearchPage page = jobService.searchJobs(criteria, cursor, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getJobs());
+    }
+
+    private static Set<JobType> parseJobTypes(List<String> values) {
+        Set<JobType> types = EnumSet.noneOf(JobType.class);
+        if (values == null) {
+            return types;
+        }
+        for (String value : values) {
+            for (JobType type : JobType.values()) {
+                if (type.name().equalsIgnoreCase(value.trim())) {
+                    types.add(type);
+                }
+            }
+        }
+        return types;
     }
 }
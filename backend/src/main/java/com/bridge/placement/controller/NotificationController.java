@@ -1,19 +1,26 @@
 package com.bridge.placement.controller;
 
-import com.bridge.placement.entity.Notification;
+import com.bridge.placement.dto.response.NotificationPage;
+import com.bridge.placement.dto.response.NotificationResponse;
 import com.bridge.placement.service.NotificationService;
+import com.bridge.placement.service.notification.NotificationStreamRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/user/notifications")
@@ -21,19 +28,93 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamRegistry notificationStreamRegistry;
 
+    /**
+     * GET /api/user/notifications
+     * Keyset-paginated, newest first: when more entries exist, the
+     * X-Next-Cursor header carries the value to pass as {@code before}.
+     */
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
-    public ResponseEntity<List<Notification>> getUserNotifications() {
+    public ResponseEntity<List<NotificationResponse>> getUserNotifications(
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String email = auth.getName(); // Username is email in our UserDetails
-        return ResponseEntity.ok(notificationService.getUserNotifications(email));
+        NotificationPage page = notificationService.getUserNotifications(email, before, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getNotifications());
+    }
+
+    /**
+     * GET /api/user/notifications/stream
+     * Server-Sent Events: "notification" events as they happen, "resync"
+     * when the client fell behind and should refetch, plus heartbeats.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public SseEmitter stream() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return notificationStreamRegistry.open(email, notificationService.topicsFor(email));
+    }
+
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public ResponseEntity<Map<String, Long>> getUnreadCount() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(email)));
     }
 
     @PutMapping("/read")
     @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
-    public ResponseEntity<Void> markAsRead(@RequestParam Long notificationId) {
-        notificationService.markAsRead(notificationId);
+    public ResponseEntity<Void> markAsRead(@RequestParam Long notificationId,
+            @RequestParam(defaultValue = NotificationResponse.PERSONAL) String source) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (NotificationResponse.TOPIC.equalsIgnoreCase(source)) {
+            notificationService.markTopicReadUpTo(email, notificationId);
+        } else {
+            notificationService.markAsRead(email, notificationId);
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * PUT /api/user/notifications/read-all
+     * Marks everything read, or with {@code upToId} only personal
+     * notifications up to that ID.
+     */
+    @PutMapping("/read-all")
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(@RequestParam(required = false) Long upToId) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllAsRead(email, upToId)));
+    }
+
+    @GetMapping("/subscriptions")
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public ResponseEntity<List<String>> getSubscriptions() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.ok(notificationService.getSubscriptions(email));
+    }
+
+    @PostMapping("/subscriptions")
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public ResponseEntity<Void> subscribe(@RequestParam String topic) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        notificationService.subscribe(email, topic);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/subscriptions")
+    @PreAuthorize("hasAnyRole('USER', 'PLACEMENT_OFFICER', 'COMPANY')")
+    public ResponseEntity<Void> unsubscribe(@RequestParam String topic) {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        notificationService.unsubscribe(email, topic);
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,62 @@
+package com.bridge.placement.controller;
+
+import com.bridge.placement.dto.response.CandidateScoreResponse;
+import com.bridge.placement.dto.response.RecommendedJobsResponse;
+import com.bridge.placement.security.services.BridgeUserDetails;
+import com.bridge.placement.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    /**
+     * GET /api/officer/job/{jobId}/shortlist
+     * Ranks every approved user against the job by AILS score.
+     */
+    @GetMapping("/officer/job/{jobId}/shortlist")
+    @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
+    public ResponseEntity<List<CandidateScoreResponse>> getShortlist(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal BridgeUserDetails userDetails) {
+        return ResponseEntity.ok(recommendationService.shortlistCandidates(userDetails.getId(), jobId, limit));
+    }
+
+    /**
+     * GET /api/officer/job/{jobId}/recommended-candidates
+     * Top candidates drawn from the skill index, re-ranked by AILS score.
+     */
+    @GetMapping("/officer/job/{jobId}/recommended-candidates")
+    @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
+    public ResponseEntity<List<CandidateScoreResponse>> getRecommendedCandidates(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal BridgeUserDetails userDetails) {
+        return ResponseEntity.ok(recommendationService.recommendCandidates(userDetails.getId(), jobId, limit));
+    }
+
+    /**
+     * GET /api/user/recommended-jobs
+     * Open jobs that fit the student's profile, best AILS score first.
+     */
+    @GetMapping("/user/recommended-jobs")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<RecommendedJobsResponse> getRecommendedJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal BridgeUserDetails userDetails) {
+        return ResponseEntity.ok(recommendationService.recommendJobs(userDetails.getId(), page, size));
+    }
+}
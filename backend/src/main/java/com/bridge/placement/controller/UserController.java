@@ -1,7 +1,7 @@
 package com.bridge.placement.controller;
 
 import com.bridge.placement.dto.request.UpdateUserProfileRequest;
-import com.bridge.placement.entity.Application;
+import com.bridge.placement.dto.response.ApplicationSummaryResponse;
 import com.bridge.placement.entity.User;
 import com.bridge.placement.repository.ApplicationRepository;
 import com.bridge.placement.security.services.BridgeUserDetails;
@@ -37,7 +37,8 @@ public class UserController {
     }
 
     @GetMapping("/applications")
-    public ResponseEntity<List<Application>> getApplications(@AuthenticationPrincipal BridgeUserDetails userDetails) {
-        return ResponseEntity.ok(applicationRepository.findByUserId(userDetails.getId()));
+    public ResponseEntity<List<ApplicationSummaryResponse>> getApplications(
+            @AuthenticationPrincipal BridgeUserDetails userDetails) {
+        return ResponseEntity.ok(applicationRepository.findSummariesByUserId(userDetails.getId()));
     }
 }
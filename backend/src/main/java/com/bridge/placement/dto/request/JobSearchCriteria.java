@@ -0,0 +1,30 @@
+package com.bridge.placement.dto.request;
+
+import com.bridge.placement.enums.JobStatus;
+import com.bridge.placement.enums.JobType;
+import com.bridge.placement.enums.WorkMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filters for GET /jobs/search. Null fields are not applied.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobSearchCriteria {
+
+    private String text; // free text over title / description / skills (full-text index)
+    private String location; // case-insensitive "contains"
+    private Set<JobType> jobTypes; // any of; null or empty = all
+    private WorkMode workMode;
+    private JobStatus status;
+    private LocalDate deadlineFrom; // applicationDeadline on or after (or no deadline)
+    private String skill; // matched against required / preferred skills CSV
+}
@@ -0,0 +1,77 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application row returned by GET /user/applications and
+ * GET /officer/applications/{jobId}. Keeps the nested job / company / user
+ * shape of the old entity response, minus everything the lists never show.
+ * The full AILS breakdown is at GET /applications/{id}/score.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ApplicationSummaryResponse {
+
+    private Long id;
+    private ApplicationStatus applicationStatus;
+    private LocalDateTime appliedAt;
+    private Double ailsScore;
+    private boolean exceptionFlag;
+    private String remarksByOfficer;
+    private JobRef job;
+    private ApplicantRef user;
+
+    // JPQL constructor expression (ApplicationRepository.SUMMARY_SELECT)
+    public ApplicationSummaryResponse(Long id, ApplicationStatus applicationStatus, LocalDateTime appliedAt,
+            Double ailsScore, boolean exceptionFlag, String remarksByOfficer,
+            Long jobId, String jobTitle, Long companyId, String companyName,
+            Long userId, String firstName, String middleName, String lastName, String email) {
+        StringBuilder name = new StringBuilder(firstName != null ? firstName : "");
+        if (middleName != null && !middleName.isBlank()) {
+            name.append(" ").append(middleName);
+        }
+        if (lastName != null) {
+            name.append(" ").append(lastName);
+        }
+        this.id = id;
+        this.applicationStatus = applicationStatus;
+        this.appliedAt = appliedAt;
+        this.ailsScore = ailsScore;
+        this.exceptionFlag = exceptionFlag;
+        this.remarksByOfficer = remarksByOfficer;
+        this.job = new JobRef(jobId, jobTitle, new CompanyRef(companyId, companyName));
+        this.user = new ApplicantRef(userId, name.toString().trim(), email);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class JobRef {
+        private Long id;
+        private String title;
+        private CompanyRef company;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CompanyRef {
+        private Long id;
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ApplicantRef {
+        private Long id;
+        private String fullName;
+        private String email;
+    }
+}
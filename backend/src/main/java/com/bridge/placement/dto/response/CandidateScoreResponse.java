@@ -0,0 +1,33 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One ranked candidate in an officer's "who should apply" shortlist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CandidateScoreResponse {
+
+    private Long userId;
+    private String fullName;
+    private String email;
+    private UserType roleType;
+    private String collegeName;
+
+    private Double ailsScore; // 0.0 – 100.0
+    private String matchLevel; // LOW / MEDIUM / HIGH
+
+    private List<String> strongAreas;
+    private List<String> missingSkills;
+
+    private boolean exceptionFlag;
+}
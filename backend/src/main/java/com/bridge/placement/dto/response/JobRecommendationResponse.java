@@ -0,0 +1,36 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.JobType;
+import com.bridge.placement.enums.WorkMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One open job in a student's recommended-jobs feed.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobRecommendationResponse {
+
+    private Long jobId;
+    private String title;
+    private String companyName;
+    private String location;
+    private JobType jobType;
+    private WorkMode workMode;
+    private String salaryRange;
+    private LocalDate applicationDeadline;
+
+    private Double ailsScore; // 0.0 – 100.0
+    private String matchLevel; // LOW / MEDIUM / HIGH
+
+    private List<String> strongAreas;
+    private List<String> missingSkills;
+}
@@ -0,0 +1,18 @@
+package com.bridge.placement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of job search results plus the keyset cursor for the next page
+ * (null on the last page).
+ */
+@Getter
+@AllArgsConstructor
+public class JobSearchPage {
+
+    private final List<JobSummaryResponse> jobs;
+    private final Long nextCursor;
+}
@@ -0,0 +1,40 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.JobStatus;
+import com.bridge.placement.enums.JobType;
+import com.bridge.placement.enums.WorkMode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Job listing row returned by GET /jobs/search.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String description;
+    private Long companyId;
+    private String companyName;
+    private String requiredSkills;
+    private String preferredSkills;
+    private Integer experienceRequired;
+    private String salaryRange;
+    private String location;
+    private WorkMode workMode;
+    private JobType jobType;
+    private JobStatus status;
+    private LocalDate applicationDeadline;
+    private LocalDateTime createdAt;
+
+    private String highlight; // matched snippet with <mark> tags, free-text search only
+}
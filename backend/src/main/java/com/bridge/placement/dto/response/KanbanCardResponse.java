@@ -0,0 +1,40 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One application card on the admin kanban board.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class KanbanCardResponse {
+
+    private Long id; // application ID
+    private String name;
+    private String email;
+    private String job;
+    private String status;
+    private Double score;
+
+    // JPQL constructor expression (ApplicationRepository.findKanbanCards)
+    public KanbanCardResponse(Long id, String firstName, String middleName, String lastName,
+            String email, String jobTitle, ApplicationStatus status, Double score) {
+        StringBuilder sb = new StringBuilder(firstName != null ? firstName : "");
+        if (middleName != null && !middleName.isBlank()) {
+            sb.append(" ").append(middleName);
+        }
+        if (lastName != null) {
+            sb.append(" ").append(lastName);
+        }
+        this.id = id;
+        this.name = sb.toString().trim();
+        this.email = email;
+        this.job = jobTitle;
+        this.status = status.name();
+        this.score = score;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bridge.placement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of the notification inbox plus the keyset cursor (InboxCursor of
+ * the last entry) for the next page; null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPage {
+
+    private final List<NotificationResponse> notifications;
+    private final String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.bridge.placement.dto.response;
+
+import com.bridge.placement.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Inbox entry: a personal notification or a topic broadcast (see source).
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationResponse {
+
+    public static final String PERSONAL = "PERSONAL";
+    public static final String TOPIC = "TOPIC";
+
+    private Long id;
+    private String source;
+    private String userEmail;
+    private String title;
+    private String message;
+    private NotificationType type;
+    private boolean readFlag;
+    private Long jobId;
+    private LocalDateTime createdAt;
+}
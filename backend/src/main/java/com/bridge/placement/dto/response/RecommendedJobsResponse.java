@@ -0,0 +1,23 @@
+package com.bridge.placement.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a student's recommended-jobs feed.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecommendedJobsResponse {
+
+    private List<JobRecommendationResponse> jobs;
+    private int page;
+    private int size;
+    private int totalElements;
+}
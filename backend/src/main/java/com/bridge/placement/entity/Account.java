@@ -0,0 +1,44 @@
+package com.bridge.placement.entity;
+
+import com.bridge.placement.enums.AccountType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Directory row mapping a login email to the table and ID of its principal
+ * (admins, users, companies or placement_officers). The unique email index
+ * makes login a single point lookup and keeps emails unique across types.
+ */
+@Entity
+@Table(name = "accounts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_account_principal", columnNames = { "account_type", "principal_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class Account extends BaseEntity {
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AccountType accountType;
+
+    @Column(nullable = false)
+    private Long principalId;
+
+    public Account(String email, AccountType accountType, Long principalId) {
+        this.email = email;
+        this.accountType = accountType;
+        this.principalId = principalId;
+    }
+}
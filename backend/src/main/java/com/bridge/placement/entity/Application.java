@@ -5,6 +5,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,16 +16,22 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        // Admin analytics: status histogram and monthly counts
+        @Index(name = "idx_applications_status", columnList = "application_status"),
+        @Index(name = "idx_applications_applied_at", columnList = "applied_at")
+})
 @Getter
 @Setter
 public class Application extends BaseEntity {
 
-    @ManyToOne(optional = false)
+    // Lazy: listings use ApplicationRepository projections, single loads
+    // use findWithJobAndUserById
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -8,6 +8,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -20,7 +21,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        // Search: status filter + keyset order on id, optionally narrowed by type / mode / deadline
+        @Index(name = "idx_jobs_status_id", columnList = "status, id"),
+        @Index(name = "idx_jobs_status_type_id", columnList = "status, job_type, id"),
+        @Index(name = "idx_jobs_status_mode_id", columnList = "status, work_mode, id"),
+        @Index(name = "idx_jobs_status_deadline", columnList = "status, application_deadline"),
+        // Search index reconcile: jobs changed since the last pass
+        @Index(name = "idx_jobs_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 public class Job extends BaseEntity {
@@ -0,0 +1,24 @@
+package com.bridge.placement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Per-user read position in the topic notification stream: every topic
+ * notification with an ID up to lastReadId counts as read.
+ */
+@Entity
+@Table(name = "notification_cursors")
+@Getter
+@Setter
+public class NotificationCursor extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private Long lastReadId = 0L;
+}
@@ -0,0 +1,29 @@
+package com.bridge.placement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "notification_subscriptions", uniqueConstraints = @UniqueConstraint(name = "uk_subscription_user_topic", columnNames = {
+        "user_email", "topic" }))
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationSubscription extends BaseEntity {
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false, length = 120)
+    private String topic;
+
+    public NotificationSubscription(String userEmail, String topic) {
+        this.userEmail = userEmail;
+        this.topic = topic;
+    }
+}
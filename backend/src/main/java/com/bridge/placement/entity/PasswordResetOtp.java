@@ -0,0 +1,41 @@
+package com.bridge.placement.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outstanding password-reset code for DatabaseOtpStore. Only a SHA-256 of
+ * the code is stored; an empty hash marks a code burnt by too many wrong
+ * guesses, kept until lockedUntil.
+ */
+@Entity
+@Table(name = "password_reset_otps", indexes = @Index(name = "idx_otp_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+public class PasswordResetOtp {
+
+    @Id
+    @Column(length = 255)
+    private String email;
+
+    @Column(nullable = false, length = 64)
+    private String otpHash;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime lockedUntil; // null unless attempts ran out
+}
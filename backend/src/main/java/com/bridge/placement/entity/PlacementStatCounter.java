@@ -0,0 +1,33 @@
+package com.bridge.placement.entity;
+
+import com.bridge.placement.enums.StatDimension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Persisted application counter (summary table). Maintained incrementally
+ * by PlacementStatsService; see StatDimension for bucket formats.
+ */
+@Entity
+@Table(name = "placement_stat_counters", uniqueConstraints = @UniqueConstraint(name = "uk_stat_dimension_bucket", columnNames = {
+        "dimension", "bucket" }))
+@Getter
+@Setter
+public class PlacementStatCounter extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private StatDimension dimension;
+
+    @Column(nullable = false, length = 64)
+    private String bucket;
+
+    @Column(nullable = false)
+    private long total;
+}
@@ -0,0 +1,36 @@
+package com.bridge.placement.entity;
+
+import com.bridge.placement.enums.AccountType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tokens issued to this principal at or before {@code revokedAt} are no
+ * longer accepted (blocked / deleted accounts, password resets). Rows are
+ * purged once every such token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_principals", uniqueConstraints = @UniqueConstraint(name = "uk_revoked_principal", columnNames = {
+        "account_type", "principal_id" }))
+@Getter
+@Setter
+public class RevokedPrincipal extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AccountType accountType;
+
+    @Column(nullable = false)
+    private Long principalId;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,45 @@
+package com.bridge.placement.entity;
+
+import com.bridge.placement.enums.NotificationType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Broadcast notification stored once and delivered to everyone subscribed
+ * to any of its topics ("all", "skill:java", "location:pune", ...). Read
+ * state lives in NotificationCursor, not per recipient.
+ */
+@Entity
+@Table(name = "topic_notifications", indexes = @Index(name = "idx_topic_notification_created", columnList = "created_at"))
+@Getter
+@Setter
+public class TopicNotification extends BaseEntity {
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    private Long jobId;
+
+    @ElementCollection
+    @CollectionTable(name = "topic_notification_topics", joinColumns = @JoinColumn(name = "notification_id"), indexes = @Index(name = "idx_topic_notification_topic", columnList = "topic, notification_id"))
+    @Column(name = "topic", nullable = false, length = 120)
+    private Set<String> topics = new HashSet<>();
+}
@@ -0,0 +1,11 @@
+package com.bridge.placement.enums;
+
+/**
+ * Which table a principal lives in. Carried in the JWT "kind" claim.
+ */
+public enum AccountType {
+    ADMIN,
+    USER,
+    COMPANY,
+    OFFICER
+}
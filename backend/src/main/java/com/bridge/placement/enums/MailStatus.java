@@ -0,0 +1,7 @@
+package com.bridge.placement.enums;
+
+public enum MailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
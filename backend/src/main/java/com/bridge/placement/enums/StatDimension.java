@@ -0,0 +1,15 @@
+package com.bridge.placement.enums;
+
+/**
+ * Counter families kept by PlacementStatsService. Bucket formats:
+ * STATUS "SELECTED", MONTH "2025-03" (applied month), STATUS_YEAR
+ * "SELECTED:2025" (applied year), JOB_STATUS "42:SELECTED",
+ * COMPANY_STATUS "7:SELECTED".
+ */
+public enum StatDimension {
+    STATUS,
+    MONTH,
+    STATUS_YEAR,
+    JOB_STATUS,
+    COMPANY_STATUS
+}
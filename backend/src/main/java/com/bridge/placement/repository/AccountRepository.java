@@ -0,0 +1,47 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.Account;
+import com.bridge.placement.enums.AccountType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Long> {
+    Optional<Account> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.accountType = :type AND a.principalId IN :ids")
+    int deletePrincipals(@Param("type") AccountType type, @Param("ids") Collection<Long> ids);
+
+    // Backfill for rows created before the directory existed. INSERT IGNORE
+    // skips emails already claimed, so running these in the order of the old
+    // lookup chain (admin, user, company, officer) keeps its precedence.
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO accounts (email, account_type, principal_id, created_at, updated_at) "
+            + "SELECT email, 'ADMIN', id, NOW(), NOW() FROM admins", nativeQuery = true)
+    int backfillAdmins();
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO accounts (email, account_type, principal_id, created_at, updated_at) "
+            + "SELECT email, 'USER', id, NOW(), NOW() FROM users", nativeQuery = true)
+    int backfillUsers();
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO accounts (email, account_type, principal_id, created_at, updated_at) "
+            + "SELECT domain_email, 'COMPANY', id, NOW(), NOW() FROM companies", nativeQuery = true)
+    int backfillCompanies();
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO accounts (email, account_type, principal_id, created_at, updated_at) "
+            + "SELECT email, 'OFFICER', id, NOW(), NOW() FROM placement_officers", nativeQuery = true)
+    int backfillOfficers();
+}
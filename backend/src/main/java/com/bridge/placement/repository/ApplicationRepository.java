@@ -1,8 +1,14 @@
 package com.bridge.placement.repository;
 
+import com.bridge.placement.dto.response.ApplicationSummaryResponse;
+import com.bridge.placement.dto.response.KanbanCardResponse;
 import com.bridge.placement.entity.Application;
+import com.bridge.placement.enums.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,13 +16,55 @@ import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-    List<Application> findByJobId(Long jobId);
+    // Listing rows: one query, no entities hydrated, whatever the row count
+    String SUMMARY_SELECT = "SELECT new com.bridge.placement.dto.response.ApplicationSummaryResponse("
+            + "a.id, a.applicationStatus, a.appliedAt, a.ailsScore, a.exceptionFlag, a.remarksByOfficer, "
+            + "j.id, j.title, c.id, c.name, u.id, u.firstName, u.middleName, u.lastName, u.email) "
+            + "FROM Application a JOIN a.job j JOIN j.company c JOIN a.user u ";
 
-    List<Application> findByUserId(Long userId);
+    @Query(SUMMARY_SELECT + "WHERE j.id = :jobId ORDER BY a.id")
+    List<ApplicationSummaryResponse> findSummariesByJobId(@Param("jobId") Long jobId);
 
-    Optional<Application> findByUserIdAndJobId(Long userId, Long jobId);
+    // Newest first; the dashboard shows the first few as "recent"
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId ORDER BY a.id DESC")
+    List<ApplicationSummaryResponse> findSummariesByUserId(@Param("userId") Long userId);
+
+    boolean existsByUserIdAndJobId(Long userId, Long jobId);
+
+    // Single application with job, company and applicant joined in
+    @EntityGraph(attributePaths = { "job", "job.company", "user" })
+    Optional<Application> findWithJobAndUserById(Long id);
 
     // Reports Queries
     @Query("SELECT COUNT(a) FROM Application a WHERE a.applicationStatus = 'SELECTED' AND YEAR(a.appliedAt) = :year")
     Long countPlacedStudents(int year);
+
+    // Full recount for PlacementStatsService — one row per status / job / applied month
+    @Query("SELECT a.applicationStatus AS status, j.id AS jobId, c.id AS companyId, "
+            + "YEAR(a.appliedAt) AS year, MONTH(a.appliedAt) AS month, COUNT(a) AS total "
+            + "FROM Application a JOIN a.job j JOIN j.company c "
+            + "GROUP BY a.applicationStatus, j.id, c.id, YEAR(a.appliedAt), MONTH(a.appliedAt)")
+    List<StatRow> countForStats();
+
+    // Kanban cards, newest first; status null = all columns
+    @Query("SELECT new com.bridge.placement.dto.response.KanbanCardResponse("
+            + "a.id, u.firstName, u.middleName, u.lastName, u.email, j.title, a.applicationStatus, a.ailsScore) "
+            + "FROM Application a JOIN a.user u JOIN a.job j "
+            + "WHERE (:status IS NULL OR a.applicationStatus = :status) "
+            + "ORDER BY a.id DESC")
+    List<KanbanCardResponse> findKanbanCards(@Param("status") ApplicationStatus status, Pageable pageable);
+
+    interface StatRow {
+        ApplicationStatus getStatus();
+
+        Long getJobId();
+
+        Long getCompanyId();
+
+        Integer getYear(); // null when appliedAt is null
+
+        Integer getMonth(); // 1-12, null when appliedAt is null
+
+        long getTotal();
+    }
 }
@@ -2,16 +2,25 @@ package com.bridge.placement.repository;
 
 import com.bridge.placement.entity.Job;
 import com.bridge.placement.enums.JobStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobSearchRepository {
     List<Job> findByCompanyId(Long companyId);
 
     List<Job> findByStatus(JobStatus status);
 
     long countByStatus(JobStatus status);
+
+    // All jobs in ID order — keyset scan for warming AILS profiles
+    List<Job> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // Jobs changed since a point in time, in ID order — JobTextIndex reconcile
+    List<Job> findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(LocalDateTime since, Long afterId,
+            Pageable pageable);
 }
@@ -0,0 +1,21 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom fragment of JobRepository for keyset-paginated search.
+ */
+public interface JobSearchRepository {
+
+    /**
+     * Jobs matching the specification, newest (highest ID) first, with the
+     * company fetched in the same query.
+     *
+     * @param afterId Keyset cursor: only jobs with a smaller ID; null for the first page
+     * @param limit   Maximum number of rows
+     */
+    List<Job> searchPage(Specification<Job> spec, Long afterId, int limit);
+}
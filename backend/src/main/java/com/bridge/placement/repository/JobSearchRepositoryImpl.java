@@ -0,0 +1,45 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JobSearchRepositoryImpl implements JobSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Job> searchPage(Specification<Job> spec, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = cb.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+        root.fetch("company", JoinType.INNER);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filters = spec.toPredicate(root, query, cb);
+        if (filters != null) {
+            predicates.add(filters);
+        }
+        if (afterId != null) {
+            predicates.add(cb.lessThan(root.get("id"), afterId));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
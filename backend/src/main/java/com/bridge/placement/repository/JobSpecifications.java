@@ -0,0 +1,62 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.dto.request.JobSearchCriteria;
+import com.bridge.placement.entity.Job;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria predicates for job search. Every filter is optional.
+ */
+public final class JobSpecifications {
+
+    private JobSpecifications() {
+    }
+
+    public static Specification<Job> matching(JobSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (criteria.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.getStatus()));
+            }
+            if (criteria.getJobTypes() != null && !criteria.getJobTypes().isEmpty()) {
+                predicates.add(root.get("jobType").in(criteria.getJobTypes()));
+            }
+            if (criteria.getWorkMode() != null) {
+                predicates.add(cb.equal(root.get("workMode"), criteria.getWorkMode()));
+            }
+            if (criteria.getDeadlineFrom() != null) {
+                predicates.add(cb.or(
+                        cb.isNull(root.get("applicationDeadline")),
+                        cb.greaterThanOrEqualTo(root.get("applicationDeadline"), criteria.getDeadlineFrom())));
+            }
+            if (hasText(criteria.getLocation())) {
+                predicates.add(cb.like(cb.lower(root.get("location")), contains(criteria.getLocation())));
+            }
+            if (hasText(criteria.getSkill())) {
+                String pattern = contains(criteria.getSkill());
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("requiredSkills")), pattern),
+                        cb.like(cb.lower(root.get("preferredSkills")), pattern)));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String contains(String value) {
+        String escaped = value.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,12 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.NotificationCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationCursorRepository extends JpaRepository<NotificationCursor, Long> {
+    Optional<NotificationCursor> findByUserEmail(String userEmail);
+}
@@ -1,15 +1,48 @@
 package com.bridge.placement.repository;
 
 import com.bridge.placement.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserEmailOrderByCreatedAtDesc(String userEmail);
+    // Keyset pages over idx_notification_user_created (InnoDB appends the id,
+    // so (createdAt, id) is read straight off the index)
+    @Query("SELECT n FROM Notification n WHERE n.userEmail = :email "
+            + "AND (n.createdAt < :before OR (n.createdAt = :before AND n.id < :tieId)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageForUser(@Param("email") String userEmail, @Param("before") LocalDateTime before,
+            @Param("tieId") long tieId, Pageable pageable);
 
-    // find unread
-    List<Notification> findByUserEmailAndReadFlagFalse(String userEmail);
+    long countByUserEmailAndReadFlagFalse(String userEmail);
+
+    // Read-marking is a single UPDATE scoped to the owner; bulk JPQL skips
+    // auditing, so updatedAt is set here
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readFlag = true, n.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE n.id = :id AND n.userEmail = :email AND n.readFlag = false")
+    int markRead(@Param("id") Long id, @Param("email") String email);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readFlag = true, n.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE n.userEmail = :email AND n.readFlag = false")
+    int markAllRead(@Param("email") String email);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readFlag = true, n.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE n.userEmail = :email AND n.readFlag = false AND n.id <= :upToId")
+    int markReadUpTo(@Param("email") String email, @Param("upToId") Long upToId);
+
+    // Retention: chunked so a large purge never holds locks for long
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE read_flag = true AND created_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteReadBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
 }
@@ -0,0 +1,23 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.NotificationSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationSubscriptionRepository extends JpaRepository<NotificationSubscription, Long> {
+
+    @Query("SELECT s.topic FROM NotificationSubscription s WHERE s.userEmail = :email")
+    List<String> findTopicsByUserEmail(@Param("email") String email);
+
+    boolean existsByUserEmailAndTopic(String userEmail, String topic);
+
+    @Modifying
+    @Query("DELETE FROM NotificationSubscription s WHERE s.userEmail = :email AND s.topic = :topic")
+    int deleteByUserEmailAndTopic(@Param("email") String email, @Param("topic") String topic);
+}
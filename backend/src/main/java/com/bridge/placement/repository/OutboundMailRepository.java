@@ -0,0 +1,26 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.OutboundMail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    // SKIP LOCKED lets several instances drain the outbox without sending the
+    // same mail twice or waiting on each other's batches
+    @Query(value = "SELECT * FROM mail_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboundMail> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboundMail m WHERE m.status = com.bridge.placement.enums.MailStatus.SENT "
+            + "AND m.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
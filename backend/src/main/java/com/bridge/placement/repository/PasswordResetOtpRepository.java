@@ -0,0 +1,26 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.PasswordResetOtp;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PasswordResetOtpRepository extends JpaRepository<PasswordResetOtp, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PasswordResetOtp o WHERE o.email = :email")
+    Optional<PasswordResetOtp> findForUpdate(@Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM PasswordResetOtp o WHERE o.expiresAt <= :now "
+            + "AND (o.lockedUntil IS NULL OR o.lockedUntil <= :now)")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.PlacementStatCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlacementStatCounterRepository extends JpaRepository<PlacementStatCounter, Long> {
+
+    // Add a delta to a counter row, creating it on first use (MySQL upsert)
+    @Modifying
+    @Query(value = "INSERT INTO placement_stat_counters (dimension, bucket, total, created_at, updated_at) "
+            + "VALUES (:dimension, :bucket, :delta, NOW(), NOW()) "
+            + "ON DUPLICATE KEY UPDATE total = total + :delta, updated_at = NOW()", nativeQuery = true)
+    void addDelta(@Param("dimension") String dimension, @Param("bucket") String bucket, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM PlacementStatCounter c")
+    void deleteAllCounters();
+}
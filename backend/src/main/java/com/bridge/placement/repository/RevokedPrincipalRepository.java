@@ -0,0 +1,26 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.RevokedPrincipal;
+import com.bridge.placement.enums.AccountType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RevokedPrincipalRepository extends JpaRepository<RevokedPrincipal, Long> {
+    Optional<RevokedPrincipal> findByAccountTypeAndPrincipalId(AccountType accountType, Long principalId);
+
+    List<RevokedPrincipal> findByRevokedAtAfter(LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedPrincipal r WHERE r.revokedAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,47 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.entity.TopicNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TopicNotificationRepository extends JpaRepository<TopicNotification, Long> {
+
+    @Query("SELECT DISTINCT n FROM TopicNotification n JOIN n.topics t "
+            + "WHERE t IN :topics AND n.createdAt >= :since "
+            + "AND (n.createdAt < :before OR (n.createdAt = :before AND n.id < :tieId)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<TopicNotification> findForTopics(@Param("topics") Collection<String> topics,
+            @Param("since") LocalDateTime since, @Param("before") LocalDateTime before, @Param("tieId") long tieId,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT n.id) FROM TopicNotification n JOIN n.topics t "
+            + "WHERE t IN :topics AND n.createdAt >= :since AND n.id > :lastReadId")
+    long countUnreadForTopics(@Param("topics") Collection<String> topics, @Param("since") LocalDateTime since,
+            @Param("lastReadId") long lastReadId);
+
+    @Query("SELECT MAX(n.id) FROM TopicNotification n")
+    Long findMaxId();
+
+    // Retention: chunked by id, topic rows first, then the broadcasts themselves
+
+    @Query(value = "SELECT id FROM topic_notifications WHERE created_at < :before ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findIdsBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM topic_notification_topics WHERE notification_id IN (:ids)", nativeQuery = true)
+    int deleteTopicsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM topic_notifications WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
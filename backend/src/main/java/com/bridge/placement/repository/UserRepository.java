@@ -2,6 +2,7 @@ package com.bridge.placement.repository;
 
 import com.bridge.placement.entity.User;
 import com.bridge.placement.enums.UserType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -23,6 +24,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Approved users
     List<User> findByApprovedTrue();
 
+    // Approved, active users in ID order — keyset scan for batch AILS ranking
+    List<User> findByApprovedTrueAndBlockedFalseAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // All users in ID order — keyset scan for warming AILS profiles
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
     // Counts
     long countByApproved(boolean approved);
 
@@ -2,8 +2,12 @@ package com.bridge.placement.security;
 
 import com.bridge.placement.security.jwt.AuthEntryPointJwt;
 import com.bridge.placement.security.jwt.JwtAuthenticationFilter;
+import com.bridge.placement.security.services.BCryptCostCalibrator;
 import com.bridge.placement.security.services.CustomUserDetailsService;
+import com.bridge.placement.security.services.PasswordUpgradeService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,7 +19,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -23,7 +29,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,6 +42,11 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final AuthEntryPointJwt unauthorizedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final BCryptCostCalibrator bcryptCostCalibrator;
+
+    @Value("${bridge.security.hashing.encodeWith:bcrypt}")
+    private String encodeWith;
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
@@ -41,6 +54,8 @@ public class SecurityConfig {
 
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Re-encode on login when the stored hash is below the current policy
+        authProvider.setUserDetailsPasswordService(passwordUpgradeService);
 
         return authProvider;
     }
@@ -52,7 +67,17 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // Stored hashes are prefixed with their algorithm id ({bcrypt}, ...)
+        // and BCrypt hashes embed their cost, so each account records its own
+        // hash parameters and can be matched after the policy changes.
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptCostCalibrator.cost()));
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodeWith, encoders);
+        // Hashes written before the prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     @Bean
@@ -62,10 +87,15 @@ public class SecurityConfig {
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches (SSE streams, async login) were
+                        // authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/public/**").permitAll()
                         .requestMatchers("/jobs/search").permitAll()
                         .requestMatchers("/error").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("SUPER_ADMIN")
                         .requestMatchers("/admin/**").hasRole("SUPER_ADMIN")
                         .requestMatchers("/company/**").hasAnyRole("COMPANY", "SUPER_ADMIN")
                         .requestMatchers("/officer/**").hasAnyRole("PLACEMENT_OFFICER", "COMPANY")
@@ -86,6 +116,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("*")); // For development, allow all
         config.setAllowedHeaders(Arrays.asList("Origin", "Content-Type", "Accept", "Authorization"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "OPTIONS", "DELETE", "PATCH"));
+        config.setExposedHeaders(List.of("X-Next-Cursor"));
         source.registerCorsConfiguration("/**", config);
         return new CorsFilter(source);
     }
@@ -98,6 +129,7 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("*"));
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        config.addExposedHeader("X-Next-Cursor");
         source.registerCorsConfiguration("/**", config);
         return source;
     }
@@ -1,6 +1,8 @@
 package com.bridge.placement.security.jwt;
 
-import com.bridge.placement.security.services.CustomUserDetailsService;
+import com.bridge.placement.security.services.BridgeUserDetails;
+import com.bridge.placement.security.services.PrincipalCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -27,7 +28,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtUtils jwtUtils;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -36,10 +38,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseVerified(jwt) : null;
+            if (claims != null) {
+
+                // Tokens carry id, account kind, role and approval, so no
+                // account lookup per request. Older tokens without those
+                // claims still go through the principal cache.
+                UserDetails userDetails;
+                BridgeUserDetails fromClaims = jwtUtils.principalFromClaims(claims);
+                if (fromClaims != null) {
+                    if (revocationList.isRevoked(fromClaims.getAccountType(), fromClaims.getId(),
+                            claims.getIssuedAt())) {
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    userDetails = fromClaims;
+                } else {
+                    userDetails = principalCache.load(claims.getSubject());
+                }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
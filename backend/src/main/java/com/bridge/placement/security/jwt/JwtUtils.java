@@ -1,7 +1,13 @@
 package com.bridge.placement.security.jwt;
 
+import com.bridge.placement.enums.AccountType;
+import com.bridge.placement.enums.Role;
 import com.bridge.placement.security.services.BridgeUserDetails;
+import io.jsonwebtoken.Claims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -16,6 +22,10 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -28,11 +38,30 @@ public class JwtUtils {
     @Value("${bridge.app.jwtExpirationMs}")
     private int jwtExpirationMs;
 
+    @Value("${bridge.security.verifiedTokenTtlSeconds:60}")
+    private long verifiedTokenTtlSeconds;
+
+    @Value("${bridge.security.verifiedTokenMaxSize:10000}")
+    private long verifiedTokenMaxSize;
+
     private Key key;
 
+    // Immutable and thread-safe once built; one per application
+    private JwtParser parser;
+
+    // SHA-256(token) -> claims that already passed signature verification.
+    // An SPA fires several requests in parallel with the same token; only
+    // the first pays for HMAC and JSON parsing.
+    private Cache<String, Claims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(verifiedTokenTtlSeconds))
+                .build();
     }
 
     public String generateJwtToken(Authentication authentication) {
@@ -46,6 +75,9 @@ public class JwtUtils {
         return Jwts.builder()
                 .setSubject((userPrincipal.getUsername()))
                 .claim("role", role)
+                .claim("uid", userPrincipal.getId())
+                .claim("kind", userPrincipal.getAccountType().name())
+                .claim("approved", userPrincipal.isEnabled())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -53,14 +85,58 @@ public class JwtUtils {
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        Claims claims = parseVerified(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    /**
+     * Verify the token and return its claims, or null if it is invalid or
+     * expired. Verified tokens are cached briefly by hash; a cached entry is
+     * still checked against its own expiry.
+     */
+    public Claims parseVerified(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String hash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            if (cached.getExpiration() != null && cached.getExpiration().before(new Date())) {
+                verifiedTokens.invalidate(hash);
+                return null;
+            }
+            return cached;
+        }
+
+        Claims claims = parse(token);
+        if (claims != null) {
+            verifiedTokens.put(hash, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * Rebuild the principal from the token alone. Returns null for tokens
+     * issued before uid/kind were added; callers fall back to a lookup.
+     */
+    public BridgeUserDetails principalFromClaims(Claims claims) {
+        Number uid = claims.get("uid", Number.class);
+        String kind = claims.get("kind", String.class);
+        String role = claims.get("role", String.class);
+        if (uid == null || kind == null || role == null) {
+            return null;
+        }
+        return BridgeUserDetails.fromClaims(uid.longValue(), claims.getSubject(), AccountType.valueOf(kind),
+                Role.valueOf(role), Boolean.TRUE.equals(claims.get("approved", Boolean.class)));
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseVerified(authToken) != null;
+    }
+
+    private Claims parse(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(authToken);
-            return true;
+            return parser.parseClaimsJws(authToken).getBody();
         } catch (SecurityException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -73,6 +149,15 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
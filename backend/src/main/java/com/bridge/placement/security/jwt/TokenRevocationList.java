@@ -0,0 +1,87 @@
+package com.bridge.placement.security.jwt;
+
+import com.bridge.placement.entity.RevokedPrincipal;
+import com.bridge.placement.enums.AccountType;
+import com.bridge.placement.repository.RevokedPrincipalRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Small deny-list for self-contained JWTs. Since the filter no longer
+ * reloads the account per request, blocking or deleting an account (or
+ * resetting its password) records a revocation here; tokens issued to that
+ * principal up to that second are rejected.
+ *
+ * Lookups hit an in-memory map. Revocations are also stored in
+ * revoked_principals and re-read periodically, so every instance behind a
+ * load balancer converges without a shared session store. Entries older
+ * than the token lifetime are dropped.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final RevokedPrincipalRepository revokedPrincipalRepository;
+    private final long tokenLifetimeMs;
+
+    // "KIND:id" -> revocation time, epoch seconds (JWT iat resolution)
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(RevokedPrincipalRepository revokedPrincipalRepository,
+            @Value("${bridge.app.jwtExpirationMs}") long tokenLifetimeMs) {
+        this.revokedPrincipalRepository = revokedPrincipalRepository;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    public void revoke(AccountType accountType, Long principalId) {
+        LocalDateTime now = LocalDateTime.now();
+        revokedAt.merge(key(accountType, principalId), toEpochSecond(now), Math::max);
+
+        RevokedPrincipal row = revokedPrincipalRepository.findByAccountTypeAndPrincipalId(accountType, principalId)
+                .orElseGet(RevokedPrincipal::new);
+        row.setAccountType(accountType);
+        row.setPrincipalId(principalId);
+        row.setRevokedAt(now);
+        revokedPrincipalRepository.save(row);
+    }
+
+    public boolean isRevoked(AccountType accountType, Long principalId, Date issuedAt) {
+        Long revoked = revokedAt.get(key(accountType, principalId));
+        if (revoked == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 <= revoked;
+    }
+
+    /**
+     * Pull revocations made by other instances and forget expired ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${bridge.security.revocationSyncMs:30000}")
+    public void sync() {
+        LocalDateTime horizon = LocalDateTime.now().minusNanos(tokenLifetimeMs * 1_000_000L);
+        for (RevokedPrincipal row : revokedPrincipalRepository.findByRevokedAtAfter(horizon)) {
+            revokedAt.merge(key(row.getAccountType(), row.getPrincipalId()), toEpochSecond(row.getRevokedAt()),
+                    Math::max);
+        }
+        long horizonSeconds = toEpochSecond(horizon);
+        revokedAt.values().removeIf(seconds -> seconds < horizonSeconds);
+        revokedPrincipalRepository.deleteExpired(horizon);
+    }
+
+    private static String key(AccountType accountType, Long principalId) {
+        return accountType.name() + ":" + principalId;
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bridge.placement.security.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the BCrypt cost for new hashes by timing this machine at startup:
+ * the highest cost whose hash fits in the latency budget, never below the
+ * configured floor. Stored hashes carry their own cost, so changing it only
+ * affects new and upgraded hashes (see PasswordUpgradeService).
+ *
+ * Set bridge.security.hashing.bcryptCost to pin a cost, e.g. when
+ * benchmarking login throughput at each setting.
+ */
+@Component
+public class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final int SAMPLES = 3;
+
+    private final int cost;
+
+    public BCryptCostCalibrator(MeterRegistry meterRegistry,
+            @Value("${bridge.security.hashing.bcryptCost:0}") int fixedCost,
+            @Value("${bridge.security.hashing.minCost:10}") int minCost,
+            @Value("${bridge.security.hashing.maxCost:14}") int maxCost,
+            @Value("${bridge.security.hashing.targetMillis:100}") long targetMillis) {
+        if (fixedCost > 0) {
+            this.cost = fixedCost;
+            log.info("BCrypt cost pinned to {}", cost);
+        } else {
+            this.cost = calibrate(minCost, maxCost, targetMillis);
+        }
+        Gauge.builder("bridge.auth.hash.cost", this, BCryptCostCalibrator::cost)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    private static int calibrate(int minCost, int maxCost, long targetMillis) {
+        int chosen = minCost;
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            long millis = measure(candidate);
+            log.info("BCrypt cost {} takes {} ms on this host", candidate, millis);
+            if (millis > targetMillis) {
+                break;
+            }
+            chosen = candidate;
+        }
+        log.info("BCrypt cost {} selected (budget {} ms, floor {})", chosen, targetMillis, minCost);
+        return chosen;
+    }
+
+    // Fastest of a few runs, to discount JIT warm-up and scheduler noise
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+}
@@ -4,6 +4,8 @@ import com.bridge.placement.entity.Admin;
 import com.bridge.placement.entity.Company;
 import com.bridge.placement.entity.PlacementOfficer;
 import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.AccountType;
+import com.bridge.placement.enums.Role;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -29,10 +31,16 @@ public class BridgeUserDetails implements UserDetails {
 
     private boolean isApproved = true; // Default to true for users/admins
 
+    private AccountType accountType;
+
     public Long getId() {
         return id;
     }
 
+    public AccountType getAccountType() {
+        return accountType;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -56,6 +64,12 @@ public class BridgeUserDetails implements UserDetails {
         this.isApproved = isApproved;
     }
 
+    public BridgeUserDetails(Long id, String username, String email, String password,
+            Collection<? extends GrantedAuthority> authorities, boolean isApproved, AccountType accountType) {
+        this(id, username, email, password, authorities, isApproved);
+        this.accountType = accountType;
+    }
+
     public static BridgeUserDetails build(User user) {
         List<GrantedAuthority> authorities = Collections.singletonList(
                 new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
@@ -66,7 +80,8 @@ public class BridgeUserDetails implements UserDetails {
                 user.getEmail(),
                 user.getPassword(),
                 authorities,
-                user.isApproved() && !user.isBlocked());
+                user.isApproved() && !user.isBlocked(),
+                AccountType.USER);
     }
 
     public static BridgeUserDetails build(Company company) {
@@ -79,7 +94,8 @@ public class BridgeUserDetails implements UserDetails {
                 company.getDomainEmail(),
                 company.getPassword(),
                 authorities,
-                company.isApproved());
+                company.isApproved(),
+                AccountType.COMPANY);
     }
 
     public static BridgeUserDetails build(PlacementOfficer officer) {
@@ -91,7 +107,9 @@ public class BridgeUserDetails implements UserDetails {
                 officer.getEmail(),
                 officer.getEmail(),
                 officer.getPassword(),
-                authorities);
+                authorities,
+                true,
+                AccountType.OFFICER);
     }
 
     public static BridgeUserDetails build(Admin admin) {
@@ -103,7 +121,27 @@ public class BridgeUserDetails implements UserDetails {
                 admin.getEmail(),
                 admin.getEmail(),
                 admin.getPassword(),
-                authorities);
+                authorities,
+                true,
+                AccountType.ADMIN);
+    }
+
+    /**
+     * Same principal with a re-encoded password (hash upgrade on login).
+     */
+    public BridgeUserDetails withPassword(String newPassword) {
+        return new BridgeUserDetails(id, username, email, newPassword, authorities, isApproved, accountType);
+    }
+
+    /**
+     * Rebuild a principal from verified JWT claims (no password, no database).
+     */
+    public static BridgeUserDetails fromClaims(Long id, String email, AccountType accountType, Role role,
+            boolean approved) {
+        List<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_" + role.name()));
+
+        return new BridgeUserDetails(id, email, email, null, authorities, approved, accountType);
     }
 
     @Override
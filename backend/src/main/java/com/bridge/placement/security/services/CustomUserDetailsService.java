@@ -1,13 +1,11 @@
 package com.bridge.placement.security.services;
 
-import com.bridge.placement.entity.Admin;
-import com.bridge.placement.entity.Company;
-import com.bridge.placement.entity.PlacementOfficer;
-import com.bridge.placement.entity.User;
+import com.bridge.placement.entity.Account;
 import com.bridge.placement.repository.AdminRepository;
 import com.bridge.placement.repository.CompanyRepository;
 import com.bridge.placement.repository.PlacementOfficerRepository;
 import com.bridge.placement.repository.UserRepository;
+import com.bridge.placement.service.AccountDirectory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -21,6 +19,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private final AccountDirectory accountDirectory;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final PlacementOfficerRepository placementOfficerRepository;
@@ -29,30 +28,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // Check Admin
-        Optional<Admin> admin = adminRepository.findByEmail(email);
-        if (admin.isPresent()) {
-            return BridgeUserDetails.build(admin.get());
-        }
-
-        // Check Job Seeker (User)
-        Optional<User> user = userRepository.findByEmail(email);
-        if (user.isPresent()) {
-            return BridgeUserDetails.build(user.get());
-        }
-
-        // Check Company
-        Optional<Company> company = companyRepository.findByDomainEmail(email);
-        if (company.isPresent()) {
-            return BridgeUserDetails.build(company.get());
-        }
-
-        // Check Placement Officer
-        Optional<PlacementOfficer> officer = placementOfficerRepository.findByEmail(email);
-        if (officer.isPresent()) {
-            return BridgeUserDetails.build(officer.get());
-        }
-
-        throw new UsernameNotFoundException("User Not Found with email: " + email);
+        // One indexed lookup tells us which table the principal lives in
+        Account account = accountDirectory.find(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
+
+        Long id = account.getPrincipalId();
+        Optional<BridgeUserDetails> principal = switch (account.getAccountType()) {
+            case ADMIN -> adminRepository.findById(id).map(BridgeUserDetails::build);
+            case USER -> userRepository.findById(id).map(BridgeUserDetails::build);
+            case COMPANY -> companyRepository.findById(id).map(BridgeUserDetails::build);
+            case OFFICER -> placementOfficerRepository.findById(id).map(BridgeUserDetails::build);
+        };
+
+        return principal.orElseThrow(() -> new UsernameNotFoundException("User Not Found with email: " + email));
     }
 }
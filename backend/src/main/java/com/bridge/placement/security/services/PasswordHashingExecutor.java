@@ -0,0 +1,104 @@
+package com.bridge.placement.security.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated pool for BCrypt work (login verification), so a login storm
+ * queues here instead of occupying every Tomcat worker for ~100 ms of CPU.
+ *
+ * The pool is sized to the CPU and the queue is bounded. When both are full,
+ * {@link #submit} throws RejectedExecutionException immediately, and
+ * GlobalExceptionHandler maps it to 429.
+ *
+ * The threads stay platform threads even with spring.threads.virtual.enabled:
+ * the work is pure CPU, and this pool is what bounds concurrent hashing once
+ * request threads are no longer a limit.
+ *
+ * Metrics: bridge.auth.hash.wait / bridge.auth.hash.duration (timers),
+ * bridge.auth.hash.queue / bridge.auth.hash.active (gauges) and
+ * bridge.auth.hash.rejected (counter).
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+            @Value("${bridge.security.hashing.threads:0}") int threads,
+            @Value("${bridge.security.hashing.queueCapacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTimer = Timer.builder("bridge.auth.hash.wait")
+                .description("Time a password check spent queued")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("bridge.auth.hash.duration")
+                .description("Time spent running a password check")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("bridge.auth.hash.rejected")
+                .description("Password checks turned away because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("bridge.auth.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password checks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("bridge.auth.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a password-checking task on the hashing pool.
+     *
+     * @throws RejectedExecutionException if the pool and its queue are full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.get();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
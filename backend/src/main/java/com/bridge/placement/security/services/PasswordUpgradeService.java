@@ -0,0 +1,42 @@
+package com.bridge.placement.security.services;
+
+import com.bridge.placement.repository.AdminRepository;
+import com.bridge.placement.repository.CompanyRepository;
+import com.bridge.placement.repository.PlacementOfficerRepository;
+import com.bridge.placement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Called by DaoAuthenticationProvider after a successful login whose stored
+ * hash is weaker than the current policy (lower BCrypt cost, or a legacy hash
+ * without an {id} prefix). Stores the re-encoded password for that principal.
+ */
+@Service
+@RequiredArgsConstructor
+public class PasswordUpgradeService implements UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final PlacementOfficerRepository placementOfficerRepository;
+    private final AdminRepository adminRepository;
+    private final PrincipalCache principalCache;
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        BridgeUserDetails principal = (BridgeUserDetails) user;
+        Long id = principal.getId();
+        switch (principal.getAccountType()) {
+            case ADMIN -> adminRepository.findById(id).ifPresent(a -> a.setPassword(newPassword));
+            case USER -> userRepository.findById(id).ifPresent(u -> u.setPassword(newPassword));
+            case COMPANY -> companyRepository.findById(id).ifPresent(c -> c.setPassword(newPassword));
+            case OFFICER -> placementOfficerRepository.findById(id).ifPresent(o -> o.setPassword(newPassword));
+        }
+        principalCache.invalidate(principal.getEmail());
+        return principal.withPassword(newPassword);
+    }
+}
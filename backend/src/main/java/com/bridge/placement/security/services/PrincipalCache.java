@@ -0,0 +1,103 @@
+package com.bridge.placement.security.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by email, so
+ * the JWT filter does not probe the four account tables on every request.
+ *
+ * Callers that change anything BridgeUserDetails is built from (approval,
+ * blocking, password, deletion) must {@link #invalidate} the email. The TTL
+ * bounds staleness for any path that is missed.
+ */
+@Component
+public class PrincipalCache {
+
+    // Invalidation generations, striped by email hash; a collision only
+    // costs an extra reload
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, BridgeUserDetails> principals;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService,
+            @Value("${bridge.security.principalCacheTtlSeconds:300}") long ttlSeconds,
+            @Value("${bridge.security.principalCacheMaxSize:10000}") long maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Cached principal for the email, loading it on a miss. Unknown emails
+     * throw UsernameNotFoundException and are not cached.
+     *
+     * The lookup runs outside the cache rather than in Cache.get(key, loader):
+     * the loader executes inside a synchronized map bin, which would pin a
+     * virtual thread to its carrier for the whole database round trip. Two
+     * concurrent misses may both load. An invalidation that lands while a
+     * load is in flight bumps the key's generation, and the loaded value is
+     * dropped again instead of outliving the invalidation.
+     */
+    public BridgeUserDetails load(String email) {
+        BridgeUserDetails cached = principals.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        int slot = slot(email);
+        long generation = generations.get(slot);
+        BridgeUserDetails loaded = (BridgeUserDetails) userDetailsService.loadUserByUsername(email);
+        principals.put(email, loaded);
+        // Re-checked after the put: invalidate bumps before it removes, so
+        // either it removes this entry or we see the bump here
+        if (generations.get(slot) != generation) {
+            principals.asMap().remove(email, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop the email now and again after the current transaction commits, so
+     * a concurrent request cannot re-cache the pre-commit state.
+     */
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(email);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll(Collection<String> emails) {
+        emails.forEach(this::invalidate);
+    }
+
+    private void evict(String email) {
+        generations.incrementAndGet(slot(email));
+        principals.invalidate(email);
+    }
+
+    private static int slot(String email) {
+        int h = email.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_SLOTS - 1);
+    }
+}
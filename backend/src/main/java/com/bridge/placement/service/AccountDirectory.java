@@ -0,0 +1,88 @@
+package com.bridge.placement.service;
+
+import com.bridge.placement.entity.Account;
+import com.bridge.placement.entity.Company;
+import com.bridge.placement.entity.PlacementOfficer;
+import com.bridge.placement.enums.AccountType;
+import com.bridge.placement.repository.AccountRepository;
+import com.bridge.placement.repository.PlacementOfficerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Email -> principal directory over the four account tables. Every path
+ * that creates or deletes an admin, user, company or officer must keep it
+ * in step (see AuthService, CompanyService, AdminController,
+ * DataInitializer).
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDirectory.class);
+
+    private final AccountRepository accountRepository;
+    private final PlacementOfficerRepository placementOfficerRepository;
+
+    public Optional<Account> find(String email) {
+        return accountRepository.findByEmail(email);
+    }
+
+    /**
+     * Whether any principal type already uses this email.
+     */
+    public boolean isTaken(String email) {
+        return accountRepository.existsByEmail(email);
+    }
+
+    @Transactional
+    public void register(String email, AccountType type, Long principalId) {
+        accountRepository.save(new Account(email, type, principalId));
+    }
+
+    @Transactional
+    public void remove(AccountType type, Long principalId) {
+        accountRepository.deletePrincipals(type, List.of(principalId));
+    }
+
+    @Transactional
+    public void removeAll(AccountType type, Collection<Long> principalIds) {
+        if (!principalIds.isEmpty()) {
+            accountRepository.deletePrincipals(type, principalIds);
+        }
+    }
+
+    /**
+     * Remove a company and its placement officers (deleted with it by
+     * cascade).
+     */
+    @Transactional
+    public void removeCompany(Company company) {
+        remove(AccountType.COMPANY, company.getId());
+        removeAll(AccountType.OFFICER, placementOfficerRepository.findByCompanyId(company.getId()).stream()
+                .map(PlacementOfficer::getId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Add directory rows for principals created before the directory
+     * existed. Idempotent; cheap when nothing is missing.
+     */
+    @Transactional
+    public void backfill() {
+        int added = accountRepository.backfillAdmins()
+                + accountRepository.backfillUsers()
+                + accountRepository.backfillCompanies()
+                + accountRepository.backfillOfficers();
+        if (added > 0) {
+            log.info("Account directory backfilled with {} principals", added);
+        }
+    }
+}
@@ -2,16 +2,22 @@ package com.bridge.placement.service;
 
 import com.bridge.placement.entity.Job;
 import com.bridge.placement.entity.User;
+import com.bridge.placement.service.ails.AilsProfileCache;
 import com.bridge.placement.service.ails.AilsResult;
-import com.bridge.placement.service.ails.JobVectorizer;
+import com.bridge.placement.service.ails.JobProfile;
 import com.bridge.placement.service.ails.ResumeParserService;
 import com.bridge.placement.service.ails.SimilarityCalculator;
+import com.bridge.placement.service.ails.UserProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * AILS — Applicant Intelligence & Likelihood Score
@@ -30,9 +36,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AilsService {
 
+    // Highest score first; lower user ID wins ties so rankings are stable
+    private static final Comparator<Scored> BEST_FIRST = Comparator
+            .comparingDouble((Scored s) -> s.evaluation.total).reversed()
+            .thenComparing(s -> s.user.getId(), Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
     private final ResumeParserService resumeParser;
-    private final JobVectorizer jobVectorizer;
     private final SimilarityCalculator similarityCalculator;
+    private final AilsProfileCache profileCache;
 
     /**
      * Primary scoring method. Called when a student applies for a job.
@@ -42,75 +53,183 @@ public class AilsService {
      * @return AilsResult with score, explanation, and suggestions
      */
     public AilsResult calculateScore(User user, Job job) {
+        JobProfile jobProfile = profileCache.jobProfile(job);
+        return explain(user, jobProfile, evaluate(user, jobProfile));
+    }
+
+    /**
+     * Batch mode: score one job against many users and return the best
+     * {@code limit} results, highest score first.
+     *
+     * The job is compiled once for the whole batch, and explanations and
+     * suggestions are only built for the users that make the cut.
+     */
+    public List<AilsResult> rankUsers(Job job, Stream<User> users, int limit) {
+        Ranking ranking = rankingFor(job, limit);
+        users.forEach(ranking::offer);
+        return ranking.results();
+    }
 
-        // === PARSE INPUTS ===
-        List<String> userSkills = resumeParser.extractSkills(user);
-        List<String> requiredSkills = jobVectorizer.extractRequiredSkills(job);
-        List<String> preferredSkills = jobVectorizer.extractPreferredSkills(job);
-        List<String> jobKeywords = jobVectorizer.extractDescriptionKeywords(job);
-        int experienceYears = resumeParser.extractExperienceYears(user);
-        int requiredYears = job.getExperienceRequired() != null ? job.getExperienceRequired() : 0;
+    /**
+     * Start an incremental batch for callers that feed users page by page.
+     */
+    public Ranking rankingFor(Job job, int limit) {
+        return new Ranking(profileCache.jobProfile(job), limit);
+    }
 
-        String userCorpus = resumeParser.buildTextCorpus(user);
-        String jobCorpus = jobVectorizer.buildTextCorpus(job);
+    /**
+     * Reverse batch: score one user against many jobs and return the best
+     * {@code limit} results, highest score first (lower job ID wins ties).
+     */
+    public List<AilsResult> rankJobs(User user, Collection<Job> jobs, int limit) {
+        List<JobProfile> profiles = new ArrayList<>(jobs.size());
+        List<Evaluation> evaluations = new ArrayList<>(jobs.size());
+        List<Integer> order = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            JobProfile profile = profileCache.jobProfile(job);
+            order.add(profiles.size());
+            profiles.add(profile);
+            evaluations.add(evaluate(user, profile));
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> evaluations.get(i).total).reversed()
+                .thenComparing(i -> profiles.get(i).getJobId(), Comparator.nullsLast(Comparator.<Long>naturalOrder())));
+
+        List<AilsResult> results = new ArrayList<>(Math.min(limit, order.size()));
+        for (int i = 0; i < order.size() && i < limit; i++) {
+            int idx = order.get(i);
+            results.add(explain(user, profiles.get(idx), evaluations.get(idx)));
+        }
+        return results;
+    }
+
+    /**
+     * Keeps the top-K users seen so far for one job.
+     */
+    public class Ranking {
+
+        private final JobProfile jobProfile;
+        private final int limit;
+        // Worst kept candidate at the head, so it can be evicted in O(log K)
+        private final PriorityQueue<Scored> kept;
+        private long scanned;
+
+        private Ranking(JobProfile jobProfile, int limit) {
+            this.jobProfile = jobProfile;
+            this.limit = Math.max(1, limit);
+            this.kept = new PriorityQueue<>(this.limit + 1, BEST_FIRST.reversed());
+        }
+
+        public void offer(User user) {
+            scanned++;
+            kept.add(new Scored(user, evaluate(user, jobProfile)));
+            if (kept.size() > limit) {
+                kept.poll();
+            }
+        }
+
+        public long getScanned() {
+            return scanned;
+        }
+
+        public List<AilsResult> results() {
+            List<Scored> best = new ArrayList<>(kept);
+            best.sort(BEST_FIRST);
+            List<AilsResult> results = new ArrayList<>(best.size());
+            for (Scored s : best) {
+                results.add(explain(s.user, jobProfile, s.evaluation));
+            }
+            return results;
+        }
+    }
+
+    // --- Scoring ---
+
+    /**
+     * Compute the numeric components only. Cheap enough to run per user in a
+     * batch; the text parts are produced later by explain().
+     */
+    private Evaluation evaluate(User user, JobProfile jobProfile) {
+        Evaluation e = new Evaluation();
+
+        // === PARSE INPUTS (compiled once per job / user revision) ===
+        UserProfile userProfile = profileCache.userProfile(user);
+        List<String> requiredSkills = jobProfile.getRequiredSkills();
+        List<String> preferredSkills = jobProfile.getPreferredSkills();
+        List<String> jobKeywords = jobProfile.getDescriptionKeywords();
+        e.experienceYears = resumeParser.extractExperienceYears(user);
+        e.requiredYears = jobProfile.getRequiredYears();
 
         // === COMPONENT 1: Skill Match (40 pts) ===
-        List<String> matchedRequired = requiredSkills.stream()
-                .filter(s -> userSkills.stream().anyMatch(us -> us.contains(s) || s.contains(us)))
-                .collect(Collectors.toList());
-        List<String> missingSkills = requiredSkills.stream()
-                .filter(s -> matchedRequired.stream().noneMatch(m -> m.equals(s)))
-                .collect(Collectors.toList());
+        int[] requiredIds = jobProfile.getRequiredSkillIds();
+        for (int i = 0; i < requiredIds.length; i++) {
+            String skill = requiredSkills.get(i);
+            if (userProfile.hasSkill(requiredIds[i], skill)) {
+                e.matchedRequired.add(skill);
+            } else {
+                e.missingSkills.add(skill);
+            }
+        }
 
         // Preferred skills give a small extra boost within this component
-        List<String> matchedPreferred = preferredSkills.stream()
-                .filter(s -> userSkills.stream().anyMatch(us -> us.contains(s) || s.contains(us)))
-                .collect(Collectors.toList());
+        int[] preferredIds = jobProfile.getPreferredSkillIds();
+        for (int i = 0; i < preferredIds.length; i++) {
+            if (userProfile.hasSkill(preferredIds[i], preferredSkills.get(i))) {
+                e.matchedPreferred.add(preferredSkills.get(i));
+            }
+        }
 
-        double skillMatchScore;
         if (requiredSkills.isEmpty()) {
-            skillMatchScore = 20.0; // half credit when no required skills defined
+            e.skillMatchScore = 20.0; // half credit when no required skills defined
         } else {
-            double requiredRatio = (double) matchedRequired.size() / requiredSkills.size();
+            double requiredRatio = (double) e.matchedRequired.size() / requiredSkills.size();
             double preferredBonus = preferredSkills.isEmpty() ? 0
-                    : ((double) matchedPreferred.size() / preferredSkills.size()) * 5.0;
-            skillMatchScore = Math.min(40.0, requiredRatio * 35.0 + preferredBonus);
+                    : ((double) e.matchedPreferred.size() / preferredSkills.size()) * 5.0;
+            e.skillMatchScore = Math.min(40.0, requiredRatio * 35.0 + preferredBonus);
         }
 
         // === COMPONENT 2: Keyword Similarity (20 pts) ===
-        double cosineSim = similarityCalculator.compute(userCorpus, jobCorpus);
-        double keywordScore = cosineSim * 20.0;
+        e.cosineSim = similarityCalculator.compute(userProfile.getCorpusVector(),
+                jobProfile.getCorpusVector());
+        e.keywordScore = e.cosineSim * 20.0;
 
         // === COMPONENT 3: Experience Match (15 pts) ===
-        double experienceScore;
-        if (requiredYears == 0) {
-            experienceScore = 15.0; // no requirement = full marks
-        } else if (experienceYears >= requiredYears) {
-            experienceScore = 15.0; // meets or exceeds
+        if (e.requiredYears == 0) {
+            e.experienceScore = 15.0; // no requirement = full marks
+        } else if (e.experienceYears >= e.requiredYears) {
+            e.experienceScore = 15.0; // meets or exceeds
         } else {
-            experienceScore = ((double) experienceYears / requiredYears) * 15.0;
+            e.experienceScore = ((double) e.experienceYears / e.requiredYears) * 15.0;
         }
 
         // === COMPONENT 4: Education Relevance (10 pts) ===
-        double educationScore = resumeParser.scoreEducation(user);
+        e.educationScore = userProfile.getEducationScore();
 
         // === COMPONENT 5: Project Relevance (10 pts) ===
-        String achievements = user.getAchievements() != null ? user.getAchievements().toLowerCase() : "";
+        String achievements = userProfile.getAchievementsLower();
         long projectKeywordMatches = jobKeywords.stream()
                 .filter(k -> achievements.contains(k))
                 .count();
-        double projectScore = jobKeywords.isEmpty() ? 5.0
+        e.projectScore = jobKeywords.isEmpty() ? 5.0
                 : Math.min(10.0, (double) projectKeywordMatches / jobKeywords.size() * 10.0 * 3.0);
         // multiply by 3 as bonus: even partial keyword overlap scores well
 
         // === COMPONENT 6: Certification Bonus (5 pts) ===
-        double certificationBonus = resumeParser.scoreCertifications(user);
+        e.certificationBonus = userProfile.getCertificationBonus();
 
         // === TOTAL SCORE ===
-        double total = skillMatchScore + keywordScore + experienceScore
-                + educationScore + projectScore + certificationBonus;
+        double total = e.skillMatchScore + e.keywordScore + e.experienceScore
+                + e.educationScore + e.projectScore + e.certificationBonus;
         total = Math.min(100.0, Math.max(0.0, total));
-        total = Math.round(total * 10.0) / 10.0; // round to 1 decimal
+        e.total = Math.round(total * 10.0) / 10.0; // round to 1 decimal
+
+        return e;
+    }
+
+    /**
+     * Turn an evaluation into the full, human-readable AilsResult.
+     */
+    private AilsResult explain(User user, JobProfile jobProfile, Evaluation e) {
+        double total = e.total;
 
         // === MATCH LEVEL ===
         String matchLevel;
@@ -122,28 +241,28 @@ public class AilsService {
             matchLevel = "LOW";
 
         // === STRONG AREAS ===
-        List<String> strongAreas = new ArrayList<>(matchedRequired);
-        strongAreas.addAll(matchedPreferred);
+        List<String> strongAreas = new ArrayList<>(e.matchedRequired);
+        strongAreas.addAll(e.matchedPreferred);
 
         // === IMPROVEMENT SUGGESTIONS ===
         List<String> suggestions = new ArrayList<>();
-        if (!missingSkills.isEmpty()) {
+        if (!e.missingSkills.isEmpty()) {
             suggestions.add("Learn missing required skills: "
-                    + String.join(", ", missingSkills.stream().limit(3).collect(Collectors.toList())));
+                    + String.join(", ", e.missingSkills.stream().limit(3).collect(Collectors.toList())));
         }
-        if (cosineSim < 0.3) {
+        if (e.cosineSim < 0.3) {
             suggestions.add(
                     "Your profile keywords don't closely align with the job description. Update your skills and achievements to include relevant domain terms.");
         }
-        if (experienceYears < requiredYears) {
-            suggestions.add("This role requires " + requiredYears
+        if (e.experienceYears < e.requiredYears) {
+            suggestions.add("This role requires " + e.requiredYears
                     + " year(s) of experience. Consider applying to junior-level roles or building more project experience.");
         }
         if (user.getAchievements() == null || user.getAchievements().length() < 50) {
             suggestions.add(
                     "Expand your achievements/projects section with specific technologies, metrics, and outcomes you delivered.");
         }
-        if (certificationBonus < 2.5) {
+        if (e.certificationBonus < 2.5) {
             suggestions.add(
                     "Adding relevant certifications (AWS, Google, Oracle, etc.) will significantly boost your profile score.");
         }
@@ -156,30 +275,61 @@ public class AilsService {
                         "Experience: %.1f/15 (%d/%d yrs) | " +
                         "Education: %.1f/10 | Project Relevance: %.1f/10 | Cert Bonus: %.1f/5",
                 total, matchLevel,
-                skillMatchScore, matchedRequired.size(), requiredSkills.size(),
-                keywordScore, cosineSim * 100,
-                experienceScore, experienceYears, requiredYears,
-                educationScore, projectScore, certificationBonus);
+                e.skillMatchScore, e.matchedRequired.size(), jobProfile.getRequiredSkills().size(),
+                e.keywordScore, e.cosineSim * 100,
+                e.experienceScore, e.experienceYears, e.requiredYears,
+                e.educationScore, e.projectScore, e.certificationBonus);
 
         // === EXCEPTION FLAG ===
         // High-experience candidate with surprisingly low score — flag for manual
         // review
-        boolean exceptionFlag = (total < 40.0 && experienceYears > 3);
+        boolean exceptionFlag = (total < 40.0 && e.experienceYears > 3);
 
         return AilsResult.builder()
+                .userId(user.getId())
+                .jobId(jobProfile.getJobId())
                 .score(total)
                 .matchLevel(matchLevel)
                 .explanation(explanation)
-                .missingSkills(missingSkills)
+                .missingSkills(e.missingSkills)
                 .strongAreas(strongAreas)
                 .improvementSuggestions(suggestions)
                 .exceptionFlag(exceptionFlag)
-                .skillMatchScore(skillMatchScore)
-                .keywordScore(keywordScore)
-                .experienceScore(experienceScore)
-                .educationScore(educationScore)
-                .projectScore(projectScore)
-                .certificationBonus(certificationBonus)
+                .skillMatchScore(e.skillMatchScore)
+                .keywordScore(e.keywordScore)
+                .experienceScore(e.experienceScore)
+                .educationScore(e.educationScore)
+                .projectScore(e.projectScore)
+                .certificationBonus(e.certificationBonus)
                 .build();
     }
+
+    /**
+     * Numeric result of scoring one user against one job.
+     */
+    private static class Evaluation {
+        final List<String> matchedRequired = new ArrayList<>();
+        final List<String> missingSkills = new ArrayList<>();
+        final List<String> matchedPreferred = new ArrayList<>();
+        int experienceYears;
+        int requiredYears;
+        double cosineSim;
+        double skillMatchScore;
+        double keywordScore;
+        double experienceScore;
+        double educationScore;
+        double projectScore;
+        double certificationBonus;
+        double total;
+    }
+
+    private static class Scored {
+        final User user;
+        final Evaluation evaluation;
+
+        Scored(User user, Evaluation evaluation) {
+            this.user = user;
+            this.evaluation = evaluation;
+        }
+    }
 }
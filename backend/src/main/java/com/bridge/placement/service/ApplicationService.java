@@ -1,6 +1,7 @@
 package com.bridge.placement.service;
 
 import com.bridge.placement.dto.response.AilsScoreResponse;
+import com.bridge.placement.dto.response.ApplicationSummaryResponse;
 import com.bridge.placement.dto.response.MessageResponse;
 import com.bridge.placement.entity.Application;
 import com.bridge.placement.entity.Job;
@@ -11,9 +12,11 @@ import com.bridge.placement.repository.ApplicationRepository;
 import com.bridge.placement.repository.JobRepository;
 import com.bridge.placement.repository.UserRepository;
 import com.bridge.placement.service.ails.AilsResult;
+import com.bridge.placement.service.stats.ApplicationStatusChangedEvent;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,10 +33,11 @@ public class ApplicationService {
     private final AilsService ailsService;
     private final NotificationService notificationService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public MessageResponse applyForJob(Long userId, Long jobId) {
-        if (applicationRepository.findByUserIdAndJobId(userId, jobId).isPresent()) {
+        if (applicationRepository.existsByUserIdAndJobId(userId, jobId)) {
             return new MessageResponse("You have already applied for this job!");
         }
 
@@ -57,6 +61,7 @@ public class ApplicationService {
         application.setExceptionFlag(ails.isExceptionFlag());
 
         applicationRepository.save(application);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application, null));
 
         // Notify User
         notificationService.createNotification(
@@ -71,15 +76,15 @@ public class ApplicationService {
                 ails.getScore(), ails.getMatchLevel()));
     }
 
-    public List<Application> getApplicationsForJob(Long jobId) {
-        return applicationRepository.findByJobId(jobId);
+    public List<ApplicationSummaryResponse> getApplicationsForJob(Long jobId) {
+        return applicationRepository.findSummariesByJobId(jobId);
     }
 
     /**
      * Returns the full AILS score breakdown for an application.
      */
     public AilsScoreResponse getAilsScore(Long applicationId) {
-        Application app = applicationRepository.findById(applicationId)
+        Application app = applicationRepository.findWithJobAndUserById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         // Re-compute for live/fresh results if needed,
@@ -102,11 +107,13 @@ public class ApplicationService {
 
     @Transactional
     public MessageResponse updateApplicationStatus(Long applicationId, ApplicationStatus status) {
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findWithJobAndUserById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
+        ApplicationStatus previous = application.getApplicationStatus();
         application.setApplicationStatus(status);
         applicationRepository.save(application);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(application, previous));
 
         notificationService.createNotification(
                 application.getUser().getEmail(),
@@ -7,42 +7,66 @@ import com.bridge.placement.dto.response.AuthResponse;
 import com.bridge.placement.dto.response.MessageResponse;
 import com.bridge.placement.entity.Company;
 import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.AccountType;
 import com.bridge.placement.enums.Role;
 import com.bridge.placement.repository.CompanyRepository;
 import com.bridge.placement.repository.UserRepository;
 import com.bridge.placement.security.jwt.JwtUtils;
+import com.bridge.placement.security.jwt.TokenRevocationList;
 import com.bridge.placement.security.services.BridgeUserDetails;
+import com.bridge.placement.security.services.PasswordHashingExecutor;
+import com.bridge.placement.security.services.PrincipalCache;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.UserSkillIndex;
+import com.bridge.placement.service.mail.MailOutbox;
+import com.bridge.placement.service.otp.OtpStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
+import java.security.SecureRandom;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final SecureRandom OTP_RANDOM = new SecureRandom();
+
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
-    private final JavaMailSender mailSender;
-
-    public AuthResponse authenticateUser(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+    private final MailOutbox mailOutbox;
+    private final AilsProfileCache ailsProfileCache;
+    private final UserSkillIndex userSkillIndex;
+    private final PrincipalCache principalCache;
+    private final AccountDirectory accountDirectory;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final OtpStore otpStore;
+
+    /**
+     * Verify credentials on the password-hashing pool rather than the request
+     * thread. Throws RejectedExecutionException (429) when that pool is
+     * saturated. The security context is not populated: the API is stateless
+     * and the caller only needs the token.
+     */
+    public CompletableFuture<AuthResponse> authenticateUser(LoginRequest loginRequest) {
+        return passwordHashingExecutor.submit(() -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())))
+                .thenApply(this::toAuthResponse);
+    }
 
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private AuthResponse toAuthResponse(Authentication authentication) {
         String jwt = jwtUtils.generateJwtToken(authentication);
 
         BridgeUserDetails userDetails = (BridgeUserDetails) authentication.getPrincipal();
@@ -59,7 +83,7 @@ public class AuthService {
 
     @Transactional
     public MessageResponse registerUser(RegisterUserRequest req) {
-        if (userRepository.existsByEmail(req.getEmail())) {
+        if (accountDirectory.isTaken(req.getEmail())) {
             return new MessageResponse("Error: Email is already in use!");
         }
 
@@ -119,14 +143,16 @@ public class AuthService {
         user.setApproved(false);
         user.setBlocked(false);
 
-        userRepository.save(user);
+        user = userRepository.save(user);
+        accountDirectory.register(user.getEmail(), AccountType.USER, user.getId());
+        userSkillIndex.update(user, ailsProfileCache.refreshUser(user));
 
         return new MessageResponse("Registration submitted successfully! Please wait for Admin approval.");
     }
 
     @Transactional
     public MessageResponse registerCompany(RegisterCompanyRequest signUpRequest) {
-        if (companyRepository.existsByDomainEmail(signUpRequest.getDomainEmail())) {
+        if (accountDirectory.isTaken(signUpRequest.getDomainEmail())) {
             return new MessageResponse("Error: Email is already in use!");
         }
 
@@ -153,47 +179,39 @@ public class AuthService {
         company.setRole(Role.COMPANY);
         company.setApproved(false);
 
-        companyRepository.save(company);
+        company = companyRepository.save(company);
+        accountDirectory.register(company.getDomainEmail(), AccountType.COMPANY, company.getId());
 
         return new MessageResponse("Company registered successfully! Wait for Admin approval.");
     }
 
     // --- Forgot / Reset Password Logic ---
 
-    public static final java.util.Map<String, String> otpStorage = new java.util.concurrent.ConcurrentHashMap<>();
-
+    /**
+     * Same response whether or not the email is registered, in cooldown or
+     * locked out, so the endpoint does not reveal which emails exist.
+     */
     public MessageResponse forgotPassword(String email) {
+        MessageResponse generic = new MessageResponse("If your email is registered, an OTP has been sent.");
         boolean existsUser = userRepository.existsByEmail(email);
         boolean existsCompany = companyRepository.existsByDomainEmail(email);
 
         if (!existsUser && !existsCompany) {
-            return new MessageResponse("If your email is registered, an OTP has been sent.");
+            return generic;
         }
 
-        String otp = String.valueOf((int) (Math.random() * 900000) + 100000);
-        otpStorage.put(email, otp);
-
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject("Bridge Placement: Password Reset OTP");
-            message.setText("Your OTP for password recovery is: " + otp + "\n\nPlease do not share this with anyone.");
-            mailSender.send(message);
-        } catch (Exception e) {
-            System.err.println("Email sending failed due to config: " + e.getMessage());
+        String otp = String.valueOf(OTP_RANDOM.nextInt(900000) + 100000);
+        if (!otpStore.issue(email, otp)) {
+            return generic;
         }
 
-        System.out.println("==========================================");
-        System.out.println("🔐 FORGOT PASSWORD OTP for " + email + ": " + otp);
-        System.out.println("==========================================");
-
-        return new MessageResponse("OTP sent successfully to " + email);
+        mailOutbox.enqueue(email, "Bridge Placement: Password Reset OTP",
+                "Your OTP for password recovery is: " + otp + "\n\nPlease do not share this with anyone.");
+        return generic;
     }
 
     public MessageResponse resetPassword(String email, String otp, String newPassword) {
-        String storedOtp = otpStorage.get(email);
-
-        if (storedOtp == null || !storedOtp.equals(otp)) {
+        if (!otpStore.verify(email, otp)) {
             throw new RuntimeException("Invalid or expired OTP");
         }
 
@@ -201,15 +219,17 @@ public class AuthService {
             User user = userRepository.findByEmail(email).get();
             user.setPassword(passwordEncoder.encode(newPassword));
             userRepository.save(user);
+            tokenRevocationList.revoke(AccountType.USER, user.getId());
         } else if (companyRepository.existsByDomainEmail(email)) {
             Company company = companyRepository.findByDomainEmail(email).get();
             company.setPassword(passwordEncoder.encode(newPassword));
             companyRepository.save(company);
+            tokenRevocationList.revoke(AccountType.COMPANY, company.getId());
         } else {
             throw new RuntimeException("User not found via email");
         }
 
-        otpStorage.remove(email);
+        principalCache.invalidate(email);
 
         return new MessageResponse("Password reset successfully! You can now login.");
     }
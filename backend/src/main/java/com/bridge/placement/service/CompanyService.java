@@ -3,10 +3,18 @@ package com.bridge.placement.service;
 import com.bridge.placement.dto.request.PlacementOfficerRequest;
 import com.bridge.placement.dto.response.MessageResponse;
 import com.bridge.placement.entity.Company;
+import com.bridge.placement.entity.Job;
 import com.bridge.placement.entity.PlacementOfficer;
+import com.bridge.placement.enums.AccountType;
 import com.bridge.placement.enums.Role;
 import com.bridge.placement.repository.CompanyRepository;
+import com.bridge.placement.repository.JobRepository;
 import com.bridge.placement.repository.PlacementOfficerRepository;
+import com.bridge.placement.security.jwt.TokenRevocationList;
+import com.bridge.placement.security.services.PrincipalCache;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.JobSkillIndex;
+import com.bridge.placement.service.search.JobTextIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -15,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.bridge.placement.dto.request.UpdateCompanyProfileRequest;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +32,13 @@ public class CompanyService {
     private final CompanyRepository companyRepository;
     private final PlacementOfficerRepository placementOfficerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final AccountDirectory accountDirectory;
+    private final TokenRevocationList tokenRevocationList;
+    private final JobRepository jobRepository;
+    private final AilsProfileCache ailsProfileCache;
+    private final JobSkillIndex jobSkillIndex;
+    private final JobTextIndex jobTextIndex;
 
     public List<Company> getPendingCompanies() {
         return companyRepository.findAll();
@@ -40,6 +56,7 @@ public class CompanyService {
 
         company.setApproved(true);
         companyRepository.save(company);
+        principalCache.invalidate(company.getDomainEmail());
         return new MessageResponse("Company Approved Successfully");
     }
 
@@ -48,10 +65,47 @@ public class CompanyService {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
 
-        companyRepository.delete(company);
+        removeCompany(company);
         return new MessageResponse("Company Registration Rejected and Deleted");
     }
 
+    /**
+     * Admin delete of a company and its placement officers. Directory rows
+     * and the company go in one transaction, so a delete that fails (e.g.
+     * the company still owns jobs) leaves every login intact.
+     */
+    @Transactional
+    public MessageResponse deleteCompany(Long companyId) {
+        Company company = companyRepository.findById(companyId)
+                .orElseThrow(() -> new RuntimeException("Company not found"));
+
+        List<Long> jobIds = jobRepository.findByCompanyId(companyId).stream().map(Job::getId)
+                .collect(Collectors.toList());
+        removeCompany(company);
+        // Search and recommendation indexes drop the jobs only once the
+        // delete has committed; each of these defers to afterCommit
+        jobIds.forEach(jobId -> {
+            ailsProfileCache.evictJobAfterCommit(jobId);
+            jobSkillIndex.remove(jobId);
+            jobTextIndex.deleteAfterCommit(jobId);
+        });
+        return new MessageResponse("Company deleted");
+    }
+
+    private void removeCompany(Company company) {
+        principalCache.invalidate(company.getDomainEmail());
+        principalCache.invalidateAll(company.getPlacementOfficers().stream()
+                .map(PlacementOfficer::getEmail).collect(Collectors.toList()));
+        tokenRevocationList.revoke(AccountType.COMPANY, company.getId());
+        company.getPlacementOfficers()
+                .forEach(officer -> tokenRevocationList.revoke(AccountType.OFFICER, officer.getId()));
+        accountDirectory.removeCompany(company);
+        companyRepository.delete(company);
+        // Flush here so a foreign key failure rolls the directory rows back
+        // with it instead of surfacing at commit
+        companyRepository.flush();
+    }
+
     @Transactional
     public MessageResponse createPlacementOfficer(Long companyId, PlacementOfficerRequest request) {
         Company company = companyRepository.findById(companyId)
@@ -61,7 +115,7 @@ public class CompanyService {
             throw new RuntimeException("Company is not approved yet!");
         }
 
-        if (placementOfficerRepository.existsByEmail(request.getEmail())) {
+        if (accountDirectory.isTaken(request.getEmail())) {
             throw new RuntimeException("Email already exists for an officer");
         }
 
@@ -89,7 +143,8 @@ public class CompanyService {
         officer.setRole(Role.PLACEMENT_OFFICER);
         officer.setActive(true);
 
-        placementOfficerRepository.save(officer);
+        officer = placementOfficerRepository.save(officer);
+        accountDirectory.register(officer.getEmail(), AccountType.OFFICER, officer.getId());
 
         return new MessageResponse("Placement Officer Created Successfully");
     }
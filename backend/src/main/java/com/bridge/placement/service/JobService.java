@@ -1,6 +1,9 @@
 package com.bridge.placement.service;
 
 import com.bridge.placement.dto.request.JobRequest;
+import com.bridge.placement.dto.request.JobSearchCriteria;
+import com.bridge.placement.dto.response.JobSearchPage;
+import com.bridge.placement.dto.response.JobSummaryResponse;
 import com.bridge.placement.entity.Company;
 import com.bridge.placement.entity.Job;
 import com.bridge.placement.entity.JobRound;
@@ -8,24 +11,38 @@ import com.bridge.placement.entity.PlacementOfficer;
 import com.bridge.placement.enums.JobStatus;
 import com.bridge.placement.enums.RoundName;
 import com.bridge.placement.repository.JobRepository;
+import com.bridge.placement.repository.JobSpecifications;
 import com.bridge.placement.repository.PlacementOfficerRepository;
 import com.bridge.placement.repository.CompanyRepository;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.JobSkillIndex;
+import com.bridge.placement.service.search.JobTextHit;
+import com.bridge.placement.service.search.JobTextIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // Deepest full-text result reachable by paging; keeps Lucene's top-N small
+    private static final int MAX_TEXT_OFFSET = 1000;
+
     private final JobRepository jobRepository;
     private final PlacementOfficerRepository placementOfficerRepository;
     private final CompanyRepository companyRepository;
     private final NotificationService notificationService;
+    private final AilsProfileCache ailsProfileCache;
+    private final JobSkillIndex jobSkillIndex;
+    private final JobTextIndex jobTextIndex;
 
     @Transactional
     public Job createJob(Long officerId, JobRequest request) {
@@ -63,13 +80,15 @@ public class JobService {
         }
 
         job = jobRepository.save(job);
+        jobSkillIndex.update(job, ailsProfileCache.refreshJobAfterCommit(job));
+        jobTextIndex.indexAfterCommit(job);
 
-        // Notify all users? Maybe too spammy. A real system would use a subscription
-        // model.
-        // For project, maybe just 1 notification to officer confirming
+        // Confirm to the officer; students following the job's skills or
+        // location get a single topic broadcast
         notificationService.createNotification(officer.getEmail(), "Job Created",
                 "Job " + job.getTitle() + " posted successfully.",
                 com.bridge.placement.enums.NotificationType.JOB_POSTED);
+        notificationService.announceJob(job);
 
         return job;
     }
@@ -112,20 +131,87 @@ public class JobService {
         }
 
         job = jobRepository.save(job);
+        jobSkillIndex.update(job, ailsProfileCache.refreshJobAfterCommit(job));
+        jobTextIndex.indexAfterCommit(job);
 
         notificationService.createNotification(company.getDomainEmail(), "Job Created",
                 "Job " + job.getTitle() + " posted successfully by Admin.",
                 com.bridge.placement.enums.NotificationType.JOB_POSTED);
+        notificationService.announceJob(job);
 
         return job;
     }
 
-    public List<Job> searchJobs(String location, String type) {
-        // Basic search implementation using Streams for simplicity in this skeleton
-        // In Prod: Use Criteria API or Specification
-        return jobRepository.findAll().stream()
-                .filter(job -> (location == null || job.getLocation().toLowerCase().contains(location.toLowerCase())))
+    /**
+     * Filtered job search, pushed down to the database. Newest jobs first;
+     * pass the last returned ID as {@code afterId} to get the next page.
+     *
+     * With free text the full-text index is used instead: results are ranked
+     * by relevance and the cursor is a result offset, capped at
+     * MAX_TEXT_OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public JobSearchPage searchJobs(JobSearchCriteria criteria, Long afterId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        if (criteria.getText() != null && !criteria.getText().isBlank()) {
+            if (afterId != null && (afterId < 0 || afterId >= MAX_TEXT_OFFSET)) {
+                return new JobSearchPage(List.of(), null);
+            }
+            return searchText(criteria, afterId != null ? afterId.intValue() : 0, limit);
+        }
+        // One extra row tells us whether another page exists
+        List<Job> rows = jobRepository.searchPage(JobSpecifications.matching(criteria), afterId, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<JobSummaryResponse> jobs = rows.stream()
+                .limit(limit)
+                .map(this::toSummary)
                 .collect(Collectors.toList());
+        Long nextCursor = hasMore ? jobs.get(jobs.size() - 1).getId() : null;
+        return new JobSearchPage(jobs, nextCursor);
+    }
+
+    private JobSearchPage searchText(JobSearchCriteria criteria, int offset, int limit) {
+        List<JobTextHit> hits = jobTextIndex.search(criteria, offset, limit + 1);
+        boolean hasMore = hits.size() > limit;
+        if (hasMore) {
+            hits = hits.subList(0, limit);
+        }
+        hasMore = hasMore && offset + limit < MAX_TEXT_OFFSET;
+
+        Map<Long, Job> jobs = jobRepository.findAllById(hits.stream().map(JobTextHit::getJobId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobSummaryResponse> results = new ArrayList<>(hits.size());
+        for (JobTextHit hit : hits) {
+            Job job = jobs.get(hit.getJobId());
+            if (job == null) {
+                continue; // deleted, index not caught up yet
+            }
+            JobSummaryResponse summary = toSummary(job);
+            summary.setHighlight(hit.getHighlight());
+            results.add(summary);
+        }
+        return new JobSearchPage(results, hasMore ? (long) (offset + limit) : null);
+    }
+
+    private JobSummaryResponse toSummary(Job job) {
+        return JobSummaryResponse.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .companyId(job.getCompany().getId())
+                .companyName(job.getCompany().getName())
+                .requiredSkills(job.getRequiredSkills())
+                .preferredSkills(job.getPreferredSkills())
+                .experienceRequired(job.getExperienceRequired())
+                .salaryRange(job.getSalaryRange())
+                .location(job.getLocation())
+                .workMode(job.getWorkMode())
+                .jobType(job.getJobType())
+                .status(job.getStatus())
+                .applicationDeadline(job.getApplicationDeadline())
+                .createdAt(job.getCreatedAt())
+                .build();
     }
 
     public Job getJob(Long id) {
@@ -149,7 +235,10 @@ public class JobService {
         }
 
         updateJobFields(job, request);
-        return jobRepository.save(job);
+        job = jobRepository.save(job);
+        jobSkillIndex.update(job, ailsProfileCache.refreshJobAfterCommit(job));
+        jobTextIndex.indexAfterCommit(job);
+        return job;
     }
 
     @Transactional
@@ -163,6 +252,8 @@ public class JobService {
 
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
+        jobSkillIndex.remove(jobId);
+        jobTextIndex.indexAfterCommit(job);
     }
 
     // Officer Job Management
@@ -185,7 +276,10 @@ public class JobService {
         }
 
         updateJobFields(job, request);
-        return jobRepository.save(job);
+        job = jobRepository.save(job);
+        jobSkillIndex.update(job, ailsProfileCache.refreshJobAfterCommit(job));
+        jobTextIndex.indexAfterCommit(job);
+        return job;
     }
 
     @Transactional
@@ -202,6 +296,8 @@ public class JobService {
 
         job.setStatus(JobStatus.CLOSED);
         jobRepository.save(job);
+        jobSkillIndex.remove(jobId);
+        jobTextIndex.indexAfterCommit(job);
     }
 
     private void updateJobFields(Job job, JobRequest request) {
@@ -1,47 +1,267 @@
 package com.bridge.placement.service;
 
+import com.bridge.placement.dto.response.NotificationPage;
+import com.bridge.placement.dto.response.NotificationResponse;
+import com.bridge.placement.entity.Job;
 import com.bridge.placement.entity.Notification;
+import com.bridge.placement.entity.NotificationCursor;
+import com.bridge.placement.entity.NotificationSubscription;
+import com.bridge.placement.entity.TopicNotification;
 import com.bridge.placement.enums.NotificationType;
+import com.bridge.placement.repository.NotificationCursorRepository;
 import com.bridge.placement.repository.NotificationRepository;
+import com.bridge.placement.repository.NotificationSubscriptionRepository;
+import com.bridge.placement.repository.TopicNotificationRepository;
+import com.bridge.placement.repository.UserRepository;
+import com.bridge.placement.service.notification.InboxCursor;
+import com.bridge.placement.service.notification.NotificationBroker;
+import com.bridge.placement.service.notification.NotificationPush;
+import com.bridge.placement.service.notification.NotificationRequestedEvent;
+import com.bridge.placement.service.notification.NotificationTopics;
+import com.bridge.placement.service.notification.UnreadCountCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final TopicNotificationRepository topicNotificationRepository;
+    private final NotificationSubscriptionRepository subscriptionRepository;
+    private final NotificationCursorRepository cursorRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationBroker notificationBroker;
 
-    @Transactional
+    // Broadcasts older than this are not shown (and are purged by NotificationRetention)
+    @Value("${bridge.notifications.topicWindowDays:30}")
+    private long topicWindowDays;
+
+    /**
+     * Queue a notification. It is written by NotificationBatchWriter after the
+     * caller's transaction commits, so this adds no INSERT to the caller.
+     */
     public void createNotification(String userEmail, String title, String message, NotificationType type) {
-        Notification notification = new Notification();
-        notification.setUserEmail(userEmail);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setType(type);
-        notification.setReadFlag(false);
-        notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationRequestedEvent(userEmail, title, message, type));
+    }
+
+    /**
+     * Announce a new job to everyone following one of its skills or its
+     * location. One stored message regardless of audience size.
+     */
+    @Transactional
+    public void announceJob(Job job) {
+        Set<String> topics = NotificationTopics.skills(job.getRequiredSkills());
+        if (job.getLocation() != null && !job.getLocation().isBlank()) {
+            topics.add(NotificationTopics.location(job.getLocation()));
+        }
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        TopicNotification notification = new TopicNotification();
+        notification.setTitle("New Job: " + job.getTitle());
+        notification.setMessage(job.getCompany().getName() + " is hiring for " + job.getTitle()
+                + (job.getLocation() != null ? " in " + job.getLocation() : ""));
+        notification.setType(NotificationType.JOB_POSTED);
+        notification.setJobId(job.getId());
+        notification.setTopics(topics);
+        topicNotificationRepository.save(notification);
+
+        NotificationPush push = NotificationPush.broadcast(topics, NotificationResponse.builder()
+                .id(notification.getId())
+                .source(NotificationResponse.TOPIC)
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .jobId(notification.getJobId())
+                .createdAt(notification.getCreatedAt())
+                .build());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationBroker.publish(push);
+                }
+            });
+        } else {
+            notificationBroker.publish(push);
+        }
+    }
+
+    /**
+     * One inbox page: personal notifications merged with recent broadcasts on
+     * the caller's topics, newest first. Both sources are read with the same
+     * (createdAt, id) keyset, at most one page each, then merged and cut to
+     * size.
+     *
+     * @param before cursor from the previous page's X-Next-Cursor, or null
+     *               for the first page
+     */
+    @Transactional(readOnly = true)
+    public NotificationPage getUserNotifications(String userEmail, String before, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        InboxCursor cursor = before != null ? InboxCursor.parse(before) : InboxCursor.first();
+        PageRequest page = PageRequest.of(0, limit + 1);
+
+        List<NotificationResponse> inbox = new ArrayList<>();
+        for (Notification n : notificationRepository.findPageForUser(userEmail, cursor.getCreatedAt(),
+                cursor.personalTieId(), page)) {
+            inbox.add(NotificationResponse.builder()
+                    .id(n.getId())
+                    .source(NotificationResponse.PERSONAL)
+                    .userEmail(n.getUserEmail())
+                    .title(n.getTitle())
+                    .message(n.getMessage())
+                    .type(n.getType())
+                    .readFlag(n.isReadFlag())
+                    .createdAt(n.getCreatedAt())
+                    .build());
+        }
+
+        long lastReadId = cursorRepository.findByUserEmail(userEmail).map(NotificationCursor::getLastReadId).orElse(0L);
+        List<TopicNotification> broadcasts = topicNotificationRepository.findForTopics(topicsFor(userEmail),
+                LocalDateTime.now().minusDays(topicWindowDays), cursor.getCreatedAt(), cursor.topicTieId(), page);
+        for (TopicNotification n : broadcasts) {
+            inbox.add(NotificationResponse.builder()
+                    .id(n.getId())
+                    .source(NotificationResponse.TOPIC)
+                    .userEmail(userEmail)
+                    .title(n.getTitle())
+                    .message(n.getMessage())
+                    .type(n.getType())
+                    .readFlag(n.getId() <= lastReadId)
+                    .jobId(n.getJobId())
+                    .createdAt(n.getCreatedAt())
+                    .build());
+        }
+
+        // Same total order as InboxCursor: createdAt DESC, personal first, id DESC
+        inbox.sort(Comparator.comparing(NotificationResponse::getCreatedAt,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+                .thenComparing((NotificationResponse n) -> NotificationResponse.TOPIC.equals(n.getSource()))
+                .thenComparing(NotificationResponse::getId, Comparator.reverseOrder()));
+        if (inbox.size() <= limit) {
+            return new NotificationPage(inbox, null);
+        }
+        List<NotificationResponse> result = new ArrayList<>(inbox.subList(0, limit));
+        NotificationResponse last = result.get(limit - 1);
+        return new NotificationPage(result,
+                new InboxCursor(last.getCreatedAt(), last.getSource(), last.getId()).toString());
+    }
+
+    /**
+     * Unread personal notifications plus unread broadcasts, cached briefly
+     * for the navbar badge.
+     */
+    public long getUnreadCount(String userEmail) {
+        return unreadCountCache.get(userEmail, email -> {
+            long lastReadId = cursorRepository.findByUserEmail(email).map(NotificationCursor::getLastReadId)
+                    .orElse(0L);
+            return notificationRepository.countByUserEmailAndReadFlagFalse(email)
+                    + topicNotificationRepository.countUnreadForTopics(topicsFor(email),
+                            LocalDateTime.now().minusDays(topicWindowDays), lastReadId);
+        });
     }
 
-    public List<Notification> getUserNotifications(String userEmail) {
-        return notificationRepository.findByUserEmailOrderByCreatedAtDesc(userEmail);
+    /**
+     * Mark one of the caller's personal notifications read. Single UPDATE;
+     * IDs belonging to someone else are ignored.
+     */
+    @Transactional
+    public void markAsRead(String userEmail, Long notificationId) {
+        if (notificationRepository.markRead(notificationId, userEmail) > 0) {
+            unreadCountCache.invalidateAfterCommit(userEmail);
+        }
     }
 
+    /**
+     * Mark topic broadcasts read up to and including the given ID.
+     */
     @Transactional
-    public void markAsRead(Long notificationId) {
-        notificationRepository.findById(notificationId).ifPresent(n -> {
-            n.setReadFlag(true);
-            notificationRepository.save(n);
+    public void markTopicReadUpTo(String userEmail, Long notificationId) {
+        NotificationCursor cursor = cursorRepository.findByUserEmail(userEmail).orElseGet(() -> {
+            NotificationCursor created = new NotificationCursor();
+            created.setUserEmail(userEmail);
+            return created;
         });
+        if (notificationId > cursor.getLastReadId()) {
+            cursor.setLastReadId(notificationId);
+            cursorRepository.save(cursor);
+            unreadCountCache.invalidateAfterCommit(userEmail);
+        }
+    }
+
+    /**
+     * Mark personal notifications read in one UPDATE: all of them, or only
+     * those with an ID up to {@code upToId}. Without a bound, broadcasts are
+     * marked read too.
+     *
+     * @return number of personal notifications changed
+     */
+    @Transactional
+    public int markAllAsRead(String userEmail, Long upToId) {
+        int updated;
+        if (upToId != null) {
+            updated = notificationRepository.markReadUpTo(userEmail, upToId);
+        } else {
+            updated = notificationRepository.markAllRead(userEmail);
+            Long latestBroadcast = topicNotificationRepository.findMaxId();
+            if (latestBroadcast != null) {
+                markTopicReadUpTo(userEmail, latestBroadcast);
+            }
+        }
+        unreadCountCache.invalidateAfterCommit(userEmail);
+        return updated;
+    }
+
+    public List<String> getSubscriptions(String userEmail) {
+        return subscriptionRepository.findTopicsByUserEmail(userEmail);
+    }
+
+    @Transactional
+    public void subscribe(String userEmail, String topic) {
+        String normalized = NotificationTopics.normalize(topic);
+        if (!subscriptionRepository.existsByUserEmailAndTopic(userEmail, normalized)) {
+            subscriptionRepository.save(new NotificationSubscription(userEmail, normalized));
+        }
     }
 
     @Transactional
-    public void markAllAsRead(String userEmail) {
-        List<Notification> list = notificationRepository.findByUserEmailAndReadFlagFalse(userEmail);
-        list.forEach(n -> n.setReadFlag(true));
-        notificationRepository.saveAll(list);
+    public void unsubscribe(String userEmail, String topic) {
+        subscriptionRepository.deleteByUserEmailAndTopic(userEmail, NotificationTopics.normalize(topic));
+    }
+
+    /**
+     * Broadcast topics the user receives: explicit subscriptions, "all" and,
+     * for job seekers, the skills and city on their profile.
+     */
+    public Set<String> topicsFor(String userEmail) {
+        Set<String> topics = new LinkedHashSet<>(subscriptionRepository.findTopicsByUserEmail(userEmail));
+        topics.add(NotificationTopics.ALL);
+        userRepository.findByEmail(userEmail).ifPresent(user -> {
+            topics.addAll(NotificationTopics.skills(user.getSkills()));
+            if (user.getCity() != null && !user.getCity().isBlank()) {
+                topics.add(NotificationTopics.location(user.getCity()));
+            }
+        });
+        return topics;
     }
 }
@@ -2,10 +2,10 @@ package com.bridge.placement.service;
 
 import com.bridge.placement.dto.response.PublicStatsResponse;
 import com.bridge.placement.enums.JobStatus;
-import com.bridge.placement.repository.ApplicationRepository;
 import com.bridge.placement.repository.CompanyRepository;
 import com.bridge.placement.repository.JobRepository;
 import com.bridge.placement.repository.UserRepository;
+import com.bridge.placement.service.stats.PlacementStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,13 +18,13 @@ public class PublicService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JobRepository jobRepository;
-    private final ApplicationRepository applicationRepository;
+    private final PlacementStatsService placementStatsService;
 
     public PublicStatsResponse getStats() {
         long totalUsers = userRepository.count();
         long totalCompanies = companyRepository.count();
-        long activeJobs = jobRepository.findByStatus(JobStatus.OPEN).size();
-        long studentsPlaced = applicationRepository.countPlacedStudents(LocalDate.now().getYear());
+        long activeJobs = jobRepository.countByStatus(JobStatus.OPEN);
+        long studentsPlaced = placementStatsService.placedInYear(LocalDate.now().getYear());
 
         return PublicStatsResponse.builder()
                 .totalUsers(totalUsers)
@@ -0,0 +1,238 @@
+package com.bridge.placement.service;
+
+import com.bridge.placement.dto.response.CandidateScoreResponse;
+import com.bridge.placement.dto.response.JobRecommendationResponse;
+import com.bridge.placement.dto.response.RecommendedJobsResponse;
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.entity.PlacementOfficer;
+import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.JobStatus;
+import com.bridge.placement.repository.JobRepository;
+import com.bridge.placement.repository.PlacementOfficerRepository;
+import com.bridge.placement.repository.UserRepository;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.AilsResult;
+import com.bridge.placement.service.ails.JobProfile;
+import com.bridge.placement.service.ails.JobSkillIndex;
+import com.bridge.placement.service.ails.UserProfile;
+import com.bridge.placement.service.ails.UserSkillIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AILS-driven matching between jobs and users (officer shortlists and the
+ * student job feed).
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final int SCAN_PAGE_SIZE = 500;
+    private static final int MAX_LIMIT = 100;
+    // Candidates pulled from the skill index per requested result
+    private static final int CANDIDATES_PER_RESULT = 10;
+    private static final int MIN_CANDIDATES = 200;
+    // Student feed: open jobs pulled from the index, and how many are kept ranked
+    private static final int FEED_CANDIDATES = 200;
+    private static final int FEED_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final PlacementOfficerRepository placementOfficerRepository;
+    private final AilsService ailsService;
+    private final AilsProfileCache profileCache;
+    private final UserSkillIndex userSkillIndex;
+    private final JobSkillIndex jobSkillIndex;
+
+    // Ranked feed per user ID. Entries are rebuilt when the user's profile or
+    // the open job set has changed since they were computed.
+    private final Cache<Long, JobFeed> jobFeeds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * Score every approved, active user against the job and return the best
+     * {@code limit}. Users are streamed in ID-ordered pages so memory stays
+     * bounded by the page size plus the shortlist.
+     */
+    public List<CandidateScoreResponse> shortlistCandidates(Long officerId, Long jobId, int limit) {
+        Job job = getOwnedJob(officerId, jobId);
+
+        AilsService.Ranking ranking = ailsService.rankingFor(job, clampLimit(limit));
+        Long afterId = 0L;
+        List<User> page;
+        do {
+            page = userRepository.findByApprovedTrueAndBlockedFalseAndIdGreaterThanOrderByIdAsc(
+                    afterId, PageRequest.of(0, SCAN_PAGE_SIZE));
+            page.forEach(ranking::offer);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == SCAN_PAGE_SIZE);
+
+        return toCandidateResponses(ranking.results());
+    }
+
+    /**
+     * Like {@link #shortlistCandidates} but only scores users that share skill
+     * terms with the job, pulled from the inverted skill index. Cost depends
+     * on the candidate pool, not on the total number of users. Jobs without
+     * any listed skills fall back to the full scan.
+     */
+    public List<CandidateScoreResponse> recommendCandidates(Long officerId, Long jobId, int limit) {
+        Job job = getOwnedJob(officerId, jobId);
+        int k = clampLimit(limit);
+
+        JobProfile jobProfile = profileCache.jobProfile(job);
+        if (jobProfile.getRequiredSkills().isEmpty() && jobProfile.getPreferredSkills().isEmpty()) {
+            return shortlistCandidates(officerId, jobId, k);
+        }
+
+        List<Long> candidateIds = userSkillIndex.candidatesFor(jobProfile,
+                Math.max(k * CANDIDATES_PER_RESULT, MIN_CANDIDATES));
+
+        AilsService.Ranking ranking = ailsService.rankingFor(job, k);
+        // The index only holds eligible users; re-check for a change in flight
+        userRepository.findAllById(candidateIds).stream()
+                .filter(user -> user.isApproved() && !user.isBlocked())
+                .forEach(ranking::offer);
+
+        return toCandidateResponses(ranking.results());
+    }
+
+    /**
+     * Open jobs that best fit the user, AILS-ranked, one page at a time.
+     * Candidates come from the job skill index; the ranked list is cached
+     * per user so paging does not re-score.
+     */
+    public RecommendedJobsResponse recommendJobs(Long userId, int page, int size) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserProfile profile = profileCache.userProfile(user);
+        long jobsVersion = jobSkillIndex.version();
+
+        JobFeed feed = jobFeeds.getIfPresent(userId);
+        if (feed == null || !feed.isCurrent(profile, jobsVersion)) {
+            feed = new JobFeed(profile, jobsVersion, buildJobFeed(user, profile));
+            jobFeeds.put(userId, feed);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int from = Math.min(Math.max(page, 0) * pageSize, feed.jobs.size());
+        int to = Math.min(from + pageSize, feed.jobs.size());
+        return RecommendedJobsResponse.builder()
+                .jobs(feed.jobs.subList(from, to))
+                .page(Math.max(page, 0))
+                .size(pageSize)
+                .totalElements(feed.jobs.size())
+                .build();
+    }
+
+    private List<JobRecommendationResponse> buildJobFeed(User user, UserProfile profile) {
+        List<Long> candidateIds = jobSkillIndex.candidatesFor(profile, FEED_CANDIDATES);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> jobs = jobRepository.findAllById(candidateIds).stream()
+                .filter(job -> job.getStatus() == JobStatus.OPEN)
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+
+        List<AilsResult> ranked = ailsService.rankJobs(user, jobs.values(), FEED_SIZE);
+        List<JobRecommendationResponse> feed = new ArrayList<>(ranked.size());
+        for (AilsResult result : ranked) {
+            Job job = jobs.get(result.getJobId());
+            feed.add(JobRecommendationResponse.builder()
+                    .jobId(job.getId())
+                    .title(job.getTitle())
+                    .companyName(job.getCompany().getName())
+                    .location(job.getLocation())
+                    .jobType(job.getJobType())
+                    .workMode(job.getWorkMode())
+                    .salaryRange(job.getSalaryRange())
+                    .applicationDeadline(job.getApplicationDeadline())
+                    .ailsScore(result.getScore())
+                    .matchLevel(result.getMatchLevel())
+                    .strongAreas(result.getStrongAreas())
+                    .missingSkills(result.getMissingSkills())
+                    .build());
+        }
+        return List.copyOf(feed);
+    }
+
+    private Job getOwnedJob(Long officerId, Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        PlacementOfficer officer = placementOfficerRepository.findById(officerId)
+                .orElseThrow(() -> new RuntimeException("Officer not found"));
+
+        if (!job.getCompany().getId().equals(officer.getCompany().getId())) {
+            throw new RuntimeException("Unauthorized: Job does not belong to your company");
+        }
+        return job;
+    }
+
+    private List<CandidateScoreResponse> toCandidateResponses(List<AilsResult> results) {
+        Map<Long, User> users = userRepository.findAllById(
+                results.stream().map(AilsResult::getUserId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<CandidateScoreResponse> responses = new ArrayList<>(results.size());
+        for (AilsResult result : results) {
+            User user = users.get(result.getUserId());
+            if (user == null) {
+                continue; // deleted between scoring and lookup
+            }
+            responses.add(CandidateScoreResponse.builder()
+                    .userId(user.getId())
+                    .fullName(user.getFullName())
+                    .email(user.getEmail())
+                    .roleType(user.getRoleType())
+                    .collegeName(user.getCollegeName())
+                    .ailsScore(result.getScore())
+                    .matchLevel(result.getMatchLevel())
+                    .strongAreas(result.getStrongAreas())
+                    .missingSkills(result.getMissingSkills())
+                    .exceptionFlag(result.isExceptionFlag())
+                    .build());
+        }
+        return responses;
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * A user's ranked feed plus what it was computed from.
+     */
+    private static final class JobFeed {
+        final UserProfile profile;
+        final long jobsVersion;
+        final List<JobRecommendationResponse> jobs;
+
+        JobFeed(UserProfile profile, long jobsVersion, List<JobRecommendationResponse> jobs) {
+            this.profile = profile;
+            this.jobsVersion = jobsVersion;
+            this.jobs = jobs;
+        }
+
+        // Profiles are immutable and replaced on change, so identity is enough
+        boolean isCurrent(UserProfile currentProfile, long currentJobsVersion) {
+            return profile == currentProfile && jobsVersion == currentJobsVersion;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.bridge.placement.service;
 
-import com.bridge.placement.repository.ApplicationRepository;
+import com.bridge.placement.service.stats.PlacementStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,13 +12,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ReportService {
 
-    private final ApplicationRepository applicationRepository;
+    private final PlacementStatsService placementStatsService;
 
     public Map<String, Object> generatePlacementReports() {
         Map<String, Object> stats = new HashMap<>();
 
         // 1. Students Placed This Year
-        Long placedCount = applicationRepository.countPlacedStudents(LocalDate.now().getYear());
+        long placedCount = placementStatsService.placedInYear(LocalDate.now().getYear());
         stats.put("studentsPlacedCurrentYear", placedCount);
 
         // 2. Mock other stats for the skeleton
@@ -3,6 +3,8 @@ package com.bridge.placement.service;
 import com.bridge.placement.dto.request.UpdateUserProfileRequest;
 import com.bridge.placement.entity.User;
 import com.bridge.placement.repository.UserRepository;
+import com.bridge.placement.service.ails.AilsProfileCache;
+import com.bridge.placement.service.ails.UserSkillIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final AilsProfileCache ailsProfileCache;
+    private final UserSkillIndex userSkillIndex;
 
     public User getUserProfile(Long userId) {
         return userRepository.findById(userId)
@@ -40,6 +44,8 @@ public class UserService {
             user.setProfilePhoto(request.getProfilePhoto());
         }
 
-        return userRepository.save(user);
+        user = userRepository.save(user);
+        userSkillIndex.update(user, ailsProfileCache.refreshUser(user));
+        return user;
     }
 }
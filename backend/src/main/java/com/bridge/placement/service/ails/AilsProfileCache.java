@@ -0,0 +1,129 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds compiled JobProfile / UserProfile instances so AILS scoring does not
+ * re-split CSVs and re-tokenize corpora on every call.
+ *
+ * Profiles are refreshed from the write paths (job create/update, user
+ * register/update); job writes publish after their transaction commits. A cached profile is only reused while it still matches
+ * the entity's source fields, so a missed refresh costs one recompile, never
+ * a stale score.
+ *
+ * Every profile is also a document in the corpus-wide DocumentFrequencyModel;
+ * each replacement is reported there so IDF weights stay current.
+ */
+@Service
+@RequiredArgsConstructor
+public class AilsProfileCache {
+
+    private final JobVectorizer jobVectorizer;
+    private final ResumeParserService resumeParser;
+    private final DocumentFrequencyModel documentFrequencies;
+
+    private final Map<Long, JobProfile> jobProfiles = new ConcurrentHashMap<>();
+    private final Map<Long, UserProfile> userProfiles = new ConcurrentHashMap<>();
+
+    public JobProfile jobProfile(Job job) {
+        if (job.getId() != null) {
+            JobProfile cached = jobProfiles.get(job.getId());
+            if (cached != null && cached.isCurrentFor(job)) {
+                return cached;
+            }
+        }
+        return refreshJob(job);
+    }
+
+    public UserProfile userProfile(User user) {
+        if (user.getId() != null) {
+            UserProfile cached = userProfiles.get(user.getId());
+            if (cached != null && cached.isCurrentFor(user)) {
+                return cached;
+            }
+        }
+        return refreshUser(user);
+    }
+
+    /**
+     * Compile the job and replace any cached profile. Call after create/update.
+     */
+    public JobProfile refreshJob(Job job) {
+        JobProfile profile = jobVectorizer.compile(job);
+        publishJob(job.getId(), profile);
+        return profile;
+    }
+
+    /**
+     * Compile the job now but replace the cached profile only once the
+     * surrounding transaction commits, so a rolled-back edit never reaches
+     * the cache or the document frequencies.
+     */
+    public JobProfile refreshJobAfterCommit(Job job) {
+        JobProfile profile = jobVectorizer.compile(job);
+        Long jobId = job.getId();
+        afterCommit(() -> publishJob(jobId, profile));
+        return profile;
+    }
+
+    /**
+     * Compile the user and replace any cached profile. Call after
+     * register/update.
+     */
+    public UserProfile refreshUser(User user) {
+        UserProfile profile = resumeParser.compile(user);
+        if (user.getId() != null) {
+            UserProfile previous = userProfiles.put(user.getId(), profile);
+            documentFrequencies.replace(previous != null ? previous.getCorpusVector() : null,
+                    profile.getCorpusVector());
+        }
+        return profile;
+    }
+
+    public void evictJob(Long jobId) {
+        JobProfile previous = jobProfiles.remove(jobId);
+        if (previous != null) {
+            documentFrequencies.replace(previous.getCorpusVector(), null);
+        }
+    }
+
+    public void evictJobAfterCommit(Long jobId) {
+        afterCommit(() -> evictJob(jobId));
+    }
+
+    public void evictUser(Long userId) {
+        UserProfile previous = userProfiles.remove(userId);
+        if (previous != null) {
+            documentFrequencies.replace(previous.getCorpusVector(), null);
+        }
+    }
+
+    private void publishJob(Long jobId, JobProfile profile) {
+        if (jobId != null) {
+            JobProfile previous = jobProfiles.put(jobId, profile);
+            documentFrequencies.replace(previous != null ? previous.getCorpusVector() : null,
+                    profile.getCorpusVector());
+        }
+    }
+
+    private static void afterCommit(Runnable write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write.run();
+                }
+            });
+        } else {
+            write.run();
+        }
+    }
+}
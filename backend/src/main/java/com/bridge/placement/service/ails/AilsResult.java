@@ -13,6 +13,9 @@ import java.util.List;
 @Builder
 public class AilsResult {
 
+    private Long userId;
+    private Long jobId;
+
     private double score; // 0.0 – 100.0
     private String matchLevel; // LOW / MEDIUM / HIGH
     private String explanation; // Human-readable summary
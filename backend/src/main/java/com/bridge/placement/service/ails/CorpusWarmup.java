@@ -0,0 +1,69 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.entity.User;
+import com.bridge.placement.repository.JobRepository;
+import com.bridge.placement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Compiles every job and user profile once at startup so the document
+ * frequency model covers the whole corpus before the first score is served,
+ * and fills the user and job skill indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class CorpusWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(CorpusWarmup.class);
+    private static final int PAGE_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final AilsProfileCache profileCache;
+    private final DocumentFrequencyModel documentFrequencies;
+    private final UserSkillIndex userSkillIndex;
+    private final JobSkillIndex jobSkillIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        long start = System.currentTimeMillis();
+
+        // Indexes are bulk loaded: one merge per posting list instead of one
+        // array copy per document
+        JobSkillIndex.BulkLoad jobLoad = jobSkillIndex.bulkLoad();
+        long afterId = 0L;
+        List<Job> jobs;
+        do {
+            jobs = jobRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, PAGE_SIZE));
+            for (Job job : jobs) {
+                jobLoad.add(job, profileCache.refreshJob(job));
+                afterId = job.getId();
+            }
+        } while (jobs.size() == PAGE_SIZE);
+        jobLoad.finish();
+
+        UserSkillIndex.BulkLoad userLoad = userSkillIndex.bulkLoad();
+        afterId = 0L;
+        List<User> users;
+        do {
+            users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, PAGE_SIZE));
+            for (User user : users) {
+                userLoad.add(user, profileCache.refreshUser(user));
+                afterId = user.getId();
+            }
+        } while (users.size() == PAGE_SIZE);
+        userLoad.finish();
+
+        log.info("AILS corpus loaded: {} documents in {} ms",
+                documentFrequencies.getDocuments(), System.currentTimeMillis() - start);
+    }
+}
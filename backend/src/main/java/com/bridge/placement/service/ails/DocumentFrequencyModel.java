@@ -0,0 +1,133 @@
+package com.bridge.placement.service.ails;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Corpus-wide document frequencies for keyword similarity.
+ *
+ * Every compiled job and user profile is one document. AilsProfileCache
+ * reports each profile replacement here, so counts are maintained
+ * incrementally (term ID -> number of documents containing it).
+ *
+ * Readers never lock: they get an immutable IdfSnapshot, rebuilt at most
+ * once per second after writes.
+ */
+@Component
+public class DocumentFrequencyModel {
+
+    private static final long REBUILD_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong version = new AtomicLong();
+
+    // Written under lock
+    private int[] counts = new int[1024];
+    private volatile int documents;
+
+    private volatile IdfSnapshot current = IdfSnapshot.build(new int[0], 0, 0L);
+
+    /**
+     * Swap one document's terms for another. Pass null as previous for a new
+     * document, or null as next for a removed one.
+     */
+    public void replace(TermVector previous, TermVector next) {
+        if (previous == null && next == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (previous != null) {
+                for (int id : previous.getTermIds()) {
+                    counts[id]--;
+                }
+                documents--;
+            }
+            if (next != null) {
+                int[] ids = next.getTermIds();
+                if (ids.length > 0) {
+                    ensureCapacity(ids[ids.length - 1]); // sorted: last is max
+                }
+                for (int id : ids) {
+                    counts[id]++;
+                }
+                documents++;
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current IDF weights. Lock-free on the read path; at most one caller
+     * rebuilds a stale snapshot while others keep using the previous one.
+     */
+    public IdfSnapshot snapshot() {
+        IdfSnapshot snapshot = current;
+        if (snapshot.version != version.get()
+                && System.nanoTime() - snapshot.builtAt >= REBUILD_INTERVAL_NANOS
+                && lock.tryLock()) {
+            try {
+                snapshot = IdfSnapshot.build(counts, documents, version.get());
+                current = snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    public int getDocuments() {
+        return documents;
+    }
+
+    private void ensureCapacity(int maxId) {
+        if (maxId >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(maxId + 1, counts.length * 2));
+        }
+    }
+
+    /**
+     * Immutable smooth-IDF table: log((1 + N) / (1 + df)) + 1.
+     */
+    public static final class IdfSnapshot {
+
+        private final double[] idf;
+        private final double unseenIdf;
+        private final int documents;
+        private final long version;
+        private final long builtAt;
+
+        private IdfSnapshot(double[] idf, double unseenIdf, int documents, long version) {
+            this.idf = idf;
+            this.unseenIdf = unseenIdf;
+            this.documents = documents;
+            this.version = version;
+            this.builtAt = System.nanoTime();
+        }
+
+        private static IdfSnapshot build(int[] counts, int documents, long version) {
+            int n = Math.max(documents, 1);
+            // A term we have no count for still occurs in the document being
+            // scored, so treat it as df = 1.
+            double unseenIdf = Math.log((1.0 + n) / 2.0) + 1.0;
+            double[] idf = new double[counts.length];
+            for (int id = 0; id < counts.length; id++) {
+                idf[id] = counts[id] > 0 ? Math.log((1.0 + n) / (1.0 + counts[id])) + 1.0 : unseenIdf;
+            }
+            return new IdfSnapshot(idf, unseenIdf, documents, version);
+        }
+
+        public double idf(int termId) {
+            return termId < idf.length ? idf[termId] : unseenIdf;
+        }
+
+        public int getDocuments() {
+            return documents;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.Job;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pre-parsed, immutable view of a Job used by AILS scoring.
+ * Built once per job revision by JobVectorizer and cached in AilsProfileCache.
+ */
+@Getter
+@Builder
+public class JobProfile {
+
+    private final Long jobId;
+
+    // Source fields — used to detect when the cached profile is stale
+    private final String title;
+    private final String description;
+    private final String requiredSkillsCsv;
+    private final String preferredSkillsCsv;
+    private final Integer experienceRequired;
+
+    // Compiled components
+    private final List<String> requiredSkills;
+    private final int[] requiredSkillIds; // index-aligned with requiredSkills
+    private final List<String> preferredSkills;
+    private final int[] preferredSkillIds; // index-aligned with preferredSkills
+    private final List<String> descriptionKeywords;
+    private final TermVector corpusVector;
+    private final int requiredYears;
+
+    /**
+     * True if this profile was compiled from the job's current field values.
+     */
+    public boolean isCurrentFor(Job job) {
+        return Objects.equals(title, job.getTitle())
+                && Objects.equals(description, job.getDescription())
+                && Objects.equals(requiredSkillsCsv, job.getRequiredSkills())
+                && Objects.equals(preferredSkillsCsv, job.getPreferredSkills())
+                && Objects.equals(experienceRequired, job.getExperienceRequired());
+    }
+}
@@ -0,0 +1,133 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.enums.JobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index from skill term -> IDs of OPEN jobs, used to pull job
+ * recommendations for a user without loading every job.
+ *
+ * Kept current from JobService create/update/close (applied after commit)
+ * and filled at startup by CorpusWarmup. Every change bumps {@link #version()}, which per-user feed
+ * caches compare against to detect a changed job set.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobSkillIndex {
+
+    private final TermDictionary termDictionary;
+    private final PostingIndex index = new PostingIndex();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Index the job if it is OPEN, otherwise drop it. Inside a transaction
+     * the change is applied once it commits.
+     */
+    public void update(Job job, JobProfile profile) {
+        if (job.getId() == null) {
+            return;
+        }
+        if (job.getStatus() != JobStatus.OPEN) {
+            remove(job.getId());
+            return;
+        }
+        int docId = Math.toIntExact(job.getId());
+        int[] terms = terms(profile);
+        afterCommit(() -> {
+            index.put(docId, terms);
+            version.incrementAndGet();
+        });
+    }
+
+    public void remove(Long jobId) {
+        int docId = Math.toIntExact(jobId);
+        afterCommit(() -> {
+            if (index.contains(docId)) {
+                index.remove(docId);
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Open jobs sharing the most skill terms with the user, best first.
+     */
+    public List<Long> candidatesFor(UserProfile user, int limit) {
+        int[] terms = SkillTerms.expand(user.getSkills(), termDictionary);
+        if (terms.length == 0) {
+            return List.of();
+        }
+        int[] weights = new int[terms.length];
+        Arrays.fill(weights, 1);
+        return index.topDocuments(terms, weights, limit).stream()
+                .map(Integer::longValue)
+                .collect(Collectors.toList());
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Startup bulk load for CorpusWarmup: open jobs are collected and
+     * indexed in one pass by {@link BulkLoad#finish()}.
+     */
+    public BulkLoad bulkLoad() {
+        return new BulkLoad();
+    }
+
+    private int[] terms(JobProfile profile) {
+        Map<Integer, Integer> terms = new LinkedHashMap<>();
+        SkillTerms.addAll(terms, profile.getRequiredSkills(), 1, termDictionary);
+        SkillTerms.addAll(terms, profile.getPreferredSkills(), 1, termDictionary);
+        return terms.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public final class BulkLoad {
+
+        private final Map<Integer, int[]> documents = new HashMap<>();
+
+        private BulkLoad() {
+        }
+
+        public void add(Job job, JobProfile profile) {
+            if (job.getId() != null && job.getStatus() == JobStatus.OPEN) {
+                documents.put(Math.toIntExact(job.getId()), terms(profile));
+            }
+        }
+
+        public void finish() {
+            index.putAll(documents);
+            version.incrementAndGet();
+        }
+    }
+
+    private static void afterCommit(Runnable write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write.run();
+                }
+            });
+        } else {
+            write.run();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bridge.placement.service.ails;
 
 import com.bridge.placement.entity.Job;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -12,8 +13,35 @@ import java.util.stream.Collectors;
  * Vectorizes a Job posting into structured components for AILS comparison.
  */
 @Service
+@RequiredArgsConstructor
 public class JobVectorizer {
 
+    private final TermDictionary termDictionary;
+    private final SimilarityCalculator similarityCalculator;
+
+    /**
+     * Compile a job into the pre-parsed form used by AILS scoring.
+     */
+    public JobProfile compile(Job job) {
+        List<String> requiredSkills = extractRequiredSkills(job);
+        List<String> preferredSkills = extractPreferredSkills(job);
+        return JobProfile.builder()
+                .jobId(job.getId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .requiredSkillsCsv(job.getRequiredSkills())
+                .preferredSkillsCsv(job.getPreferredSkills())
+                .experienceRequired(job.getExperienceRequired())
+                .requiredSkills(List.copyOf(requiredSkills))
+                .requiredSkillIds(termDictionary.internAll(requiredSkills))
+                .preferredSkills(List.copyOf(preferredSkills))
+                .preferredSkillIds(termDictionary.internAll(preferredSkills))
+                .descriptionKeywords(List.copyOf(extractDescriptionKeywords(job)))
+                .corpusVector(similarityCalculator.vectorize(buildTextCorpus(job)))
+                .requiredYears(job.getExperienceRequired() != null ? job.getExperienceRequired() : 0)
+                .build();
+    }
+
     /**
      * Extract required skills as a normalized list.
      */
@@ -0,0 +1,288 @@
+package com.bridge.placement.service.ails;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index: term ID -> sorted posting list of document IDs.
+ *
+ * Posting lists are plain sorted int arrays replaced copy-on-write, so
+ * lookups never lock and never see a half-applied update. Writers are
+ * serialized; updates are rare (profile/job edits) compared to lookups.
+ *
+ * Not a bean — UserSkillIndex / JobSkillIndex each own one.
+ */
+public class PostingIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<Integer, int[]> postings = new ConcurrentHashMap<>();
+    // Forward index, needed to remove a document's old terms on update
+    private final Map<Integer, int[]> documentTerms = new ConcurrentHashMap<>();
+
+    /**
+     * Index a document under the given terms, replacing whatever it was
+     * indexed under before.
+     */
+    public synchronized void put(int docId, int[] termIds) {
+        int[] terms = distinctSorted(termIds);
+        int[] previous = documentTerms.put(docId, terms);
+        if (previous != null) {
+            for (int termId : previous) {
+                if (Arrays.binarySearch(terms, termId) < 0) {
+                    removePosting(termId, docId);
+                }
+            }
+        }
+        for (int termId : terms) {
+            if (previous == null || Arrays.binarySearch(previous, termId) < 0) {
+                addPosting(termId, docId);
+            }
+        }
+    }
+
+    public synchronized void remove(int docId) {
+        int[] previous = documentTerms.remove(docId);
+        if (previous != null) {
+            for (int termId : previous) {
+                removePosting(termId, docId);
+            }
+        }
+    }
+
+    public boolean contains(int docId) {
+        return documentTerms.containsKey(docId);
+    }
+
+    public int size() {
+        return documentTerms.size();
+    }
+
+    /**
+     * Index many documents at once (startup warm-up). New postings are
+     * collected per term, sorted once and merged into each posting list with
+     * a single copy, instead of one array copy per document. Documents that
+     * are already indexed go through {@link #put}.
+     */
+    public synchronized void putAll(Map<Integer, int[]> documents) {
+        Map<Integer, IntList> added = new HashMap<>();
+        for (Map.Entry<Integer, int[]> document : documents.entrySet()) {
+            int docId = document.getKey();
+            if (documentTerms.containsKey(docId)) {
+                put(docId, document.getValue());
+                continue;
+            }
+            int[] terms = distinctSorted(document.getValue());
+            documentTerms.put(docId, terms);
+            for (int termId : terms) {
+                added.computeIfAbsent(termId, t -> new IntList()).add(docId);
+            }
+        }
+        added.forEach((termId, docIds) -> postings.put(termId,
+                mergeSorted(postings.getOrDefault(termId, EMPTY), docIds.sorted())));
+    }
+
+    /**
+     * Union the posting lists of the query terms and return up to
+     * {@code limit} document IDs, most weighted hits first (ties by ID).
+     *
+     * The sorted lists are merged in one pass, so each document's score is
+     * complete when it is reached and only the best {@code limit} are kept
+     * (bounded heap of packed score/ID longs). Cost grows with the hits, but
+     * memory and sorting only with {@code limit}.
+     *
+     * @param termIds Query terms
+     * @param weights Weight per query term, index-aligned with termIds
+     */
+    public List<Integer> topDocuments(int[] termIds, int[] weights, int limit) {
+        if (limit <= 0 || termIds.length == 0) {
+            return List.of();
+        }
+        int[][] lists = new int[termIds.length][];
+        int[] positions = new int[termIds.length];
+        for (int i = 0; i < termIds.length; i++) {
+            lists[i] = postings.getOrDefault(termIds[i], EMPTY);
+        }
+
+        TopK top = new TopK(limit);
+        while (true) {
+            boolean found = false;
+            int docId = 0;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].length && (!found || lists[i][positions[i]] < docId)) {
+                    docId = lists[i][positions[i]];
+                    found = true;
+                }
+            }
+            if (!found) {
+                break;
+            }
+            int score = 0;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].length && lists[i][positions[i]] == docId) {
+                    score += weights[i];
+                    positions[i]++;
+                }
+            }
+            top.offer(score, docId);
+        }
+        return top.bestFirst();
+    }
+
+    private void addPosting(int termId, int docId) {
+        int[] list = postings.getOrDefault(termId, EMPTY);
+        int pos = Arrays.binarySearch(list, docId);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        int[] next = new int[list.length + 1];
+        System.arraycopy(list, 0, next, 0, insertAt);
+        next[insertAt] = docId;
+        System.arraycopy(list, insertAt, next, insertAt + 1, list.length - insertAt);
+        postings.put(termId, next);
+    }
+
+    private void removePosting(int termId, int docId) {
+        int[] list = postings.get(termId);
+        if (list == null) {
+            return;
+        }
+        int pos = Arrays.binarySearch(list, docId);
+        if (pos < 0) {
+            return;
+        }
+        if (list.length == 1) {
+            postings.remove(termId);
+            return;
+        }
+        int[] next = new int[list.length - 1];
+        System.arraycopy(list, 0, next, 0, pos);
+        System.arraycopy(list, pos + 1, next, pos, list.length - pos - 1);
+        postings.put(termId, next);
+    }
+
+    private static int[] distinctSorted(int[] termIds) {
+        return Arrays.stream(termIds).distinct().sorted().toArray();
+    }
+
+    // Both inputs sorted; the result is sorted and free of duplicates
+    private static int[] mergeSorted(int[] existing, int[] added) {
+        int[] merged = new int[existing.length + added.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < existing.length || j < added.length) {
+            int next;
+            if (j >= added.length || (i < existing.length && existing[i] <= added[j])) {
+                next = existing[i++];
+            } else {
+                next = added[j++];
+            }
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    /**
+     * Growable int array, so bulk loads do not box every posting.
+     */
+    private static final class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] sorted() {
+            int[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    /**
+     * Min-heap of the best {@code limit} hits. Each hit is packed into one
+     * long, score in the high half and (MAX - docId) in the low half, so a
+     * larger value is a better hit: higher score, then lower ID.
+     */
+    private static final class TopK {
+        private final int limit;
+        private long[] heap = new long[16];
+        private int size;
+
+        private TopK(int limit) {
+            this.limit = limit;
+        }
+
+        private void offer(int score, int docId) {
+            long hit = ((long) score << 32) | (Integer.MAX_VALUE - docId);
+            if (size < limit) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min((long) size * 2, limit));
+                }
+                heap[size] = hit;
+                siftUp(size++);
+            } else if (hit > heap[0]) {
+                heap[0] = hit;
+                siftDown(0);
+            }
+        }
+
+        private List<Integer> bestFirst() {
+            long[] hits = Arrays.copyOf(heap, size);
+            Arrays.sort(hits);
+            List<Integer> result = new ArrayList<>(size);
+            for (int i = hits.length - 1; i >= 0; i--) {
+                result.add(Integer.MAX_VALUE - (int) hits[i]);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= heap[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.bridge.placement.service.ails;
 
 import com.bridge.placement.entity.User;
 import com.bridge.placement.enums.UserType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -15,8 +16,31 @@ import java.util.stream.Collectors;
  * Parses a User entity into structured resume components for AILS scoring.
  */
 @Service
+@RequiredArgsConstructor
 public class ResumeParserService {
 
+    private final TermDictionary termDictionary;
+    private final SimilarityCalculator similarityCalculator;
+
+    /**
+     * Compile a user into the pre-parsed form used by AILS scoring.
+     */
+    public UserProfile compile(User user) {
+        List<String> skills = extractSkills(user);
+        return UserProfile.builder()
+                .userId(user.getId())
+                .skillsCsv(user.getSkills())
+                .achievements(user.getAchievements())
+                .roleType(user.getRoleType())
+                .skills(List.copyOf(skills))
+                .skillIds(termDictionary.internAll(skills))
+                .achievementsLower(user.getAchievements() != null ? user.getAchievements().toLowerCase() : "")
+                .corpusVector(similarityCalculator.vectorize(buildTextCorpus(user)))
+                .educationScore(scoreEducation(user))
+                .certificationBonus(scoreCertifications(user))
+                .build();
+    }
+
     /**
      * Extract normalized skill list from user's skills field (CSV).
      */
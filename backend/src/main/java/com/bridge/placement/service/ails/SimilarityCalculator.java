@@ -1,11 +1,10 @@
 package com.bridge.placement.service.ails;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -13,23 +12,28 @@ import java.util.stream.Collectors;
  * Computes TF-IDF cosine similarity between two text corpora.
  *
  * Algorithm:
- * 1. Tokenize both documents
- * 2. Compute Term Frequency (TF) per document
- * 3. Compute IDF based on combined vocabulary (2-document corpus)
- * 4. Build TF-IDF vectors
+ * 1. Tokenize both documents and intern tokens to term IDs
+ * 2. Compute Term Frequency (TF) per document as a sorted sparse vector
+ * 3. Look up IDF from the corpus-wide DocumentFrequencyModel (every job
+ *    and user profile is a document)
+ * 4. Build TF-IDF weights on the fly while merging the two vectors
  * 5. Return cosine similarity: dot(A, B) / (|A| * |B|)
  *
  * Result is a double in [0.0, 1.0].
  */
 @Service
+@RequiredArgsConstructor
 public class SimilarityCalculator {
 
-    private static final List<String> STOP_WORDS = List.of(
+    private static final Set<String> STOP_WORDS = Set.of(
             "the", "a", "an", "and", "or", "but", "in", "on", "at", "to", "for",
             "of", "with", "is", "are", "was", "be", "as", "by", "we", "our",
             "you", "your", "this", "that", "will", "can", "not", "have", "has",
             "experience", "years", "job", "role", "position", "candidate");
 
+    private final TermDictionary termDictionary;
+    private final DocumentFrequencyModel documentFrequencies;
+
     /**
      * Compute cosine similarity between two text documents.
      *
@@ -42,87 +46,78 @@ public class SimilarityCalculator {
             return 0.0;
         }
 
-        List<String> tokens1 = tokenize(doc1);
-        List<String> tokens2 = tokenize(doc2);
-
-        if (tokens1.isEmpty() || tokens2.isEmpty())
-            return 0.0;
-
-        // Build vocabulary
-        Set<String> vocabulary = tokens1.stream()
-                .collect(Collectors.toSet());
-        vocabulary.addAll(tokens2);
-
-        // TF for each document
-        Map<String, Double> tf1 = computeTF(tokens1);
-        Map<String, Double> tf2 = computeTF(tokens2);
-
-        // IDF based on 2-document corpus
-        Map<String, Double> idf = computeIDF(List.of(tokens1, tokens2), vocabulary);
-
-        // TF-IDF vectors
-        Map<String, Double> tfidf1 = computeTFIDF(tf1, idf, vocabulary);
-        Map<String, Double> tfidf2 = computeTFIDF(tf2, idf, vocabulary);
-
-        // Cosine similarity
-        return cosineSimilarity(tfidf1, tfidf2, vocabulary);
-    }
-
-    // --- Private helpers ---
-
-    private List<String> tokenize(String text) {
-        return Arrays.stream(text.toLowerCase().split("[\\s,;:.!?()\\[\\]{}\"\\-/]+"))
-                .filter(w -> w.length() > 2 && !STOP_WORDS.contains(w))
-                .collect(Collectors.toList());
-    }
-
-    private Map<String, Double> computeTF(List<String> tokens) {
-        Map<String, Long> freq = tokens.stream()
-                .collect(Collectors.groupingBy(w -> w, Collectors.counting()));
-        int total = tokens.size();
-        Map<String, Double> tf = new HashMap<>();
-        freq.forEach((word, count) -> tf.put(word, (double) count / total));
-        return tf;
+        return compute(vectorize(doc1), vectorize(doc2));
     }
 
-    private Map<String, Double> computeIDF(List<List<String>> corpus, Set<String> vocabulary) {
-        int numDocs = corpus.size();
-        Map<String, Double> idf = new HashMap<>();
-        for (String term : vocabulary) {
-            long docCount = corpus.stream()
-                    .filter(doc -> doc.contains(term))
-                    .count();
-            // IDF = log((1 + N) / (1 + df)) + 1 (smooth IDF)
-            idf.put(term, Math.log((1.0 + numDocs) / (1.0 + docCount)) + 1.0);
-        }
-        return idf;
-    }
+    /**
+     * Compute cosine similarity between two pre-built term vectors
+     * (see JobProfile / UserProfile). Single merge pass, no allocation.
+     *
+     * @param v1 First document vector
+     * @param v2 Second document vector
+     * @return Similarity score in [0.0, 1.0]
+     */
+    public double compute(TermVector v1, TermVector v2) {
+        if (v1.isEmpty() || v2.isEmpty())
+            return 0.0;
 
-    private Map<String, Double> computeTFIDF(Map<String, Double> tf,
-            Map<String, Double> idf,
-            Set<String> vocabulary) {
-        Map<String, Double> tfidf = new HashMap<>();
-        for (String term : vocabulary) {
-            double tfVal = tf.getOrDefault(term, 0.0);
-            double idfVal = idf.getOrDefault(term, 1.0);
-            tfidf.put(term, tfVal * idfVal);
-        }
-        return tfidf;
-    }
+        DocumentFrequencyModel.IdfSnapshot idf = documentFrequencies.snapshot();
+        int[] ids1 = v1.getTermIds();
+        int[] ids2 = v2.getTermIds();
+        double[] tf1 = v1.getFrequencies();
+        double[] tf2 = v2.getFrequencies();
 
-    private double cosineSimilarity(Map<String, Double> v1,
-            Map<String, Double> v2,
-            Set<String> vocabulary) {
         double dot = 0.0, norm1 = 0.0, norm2 = 0.0;
-        for (String term : vocabulary) {
-            double a = v1.getOrDefault(term, 0.0);
-            double b = v2.getOrDefault(term, 0.0);
-            dot += a * b;
+        int i = 0, j = 0;
+        while (i < ids1.length && j < ids2.length) {
+            if (ids1[i] == ids2[j]) {
+                double w = idf.idf(ids1[i]);
+                double a = tf1[i] * w;
+                double b = tf2[j] * w;
+                dot += a * b;
+                norm1 += a * a;
+                norm2 += b * b;
+                i++;
+                j++;
+            } else if (ids1[i] < ids2[j]) {
+                double a = tf1[i] * idf.idf(ids1[i]);
+                norm1 += a * a;
+                i++;
+            } else {
+                double b = tf2[j] * idf.idf(ids2[j]);
+                norm2 += b * b;
+                j++;
+            }
+        }
+        for (; i < ids1.length; i++) {
+            double a = tf1[i] * idf.idf(ids1[i]);
             norm1 += a * a;
+        }
+        for (; j < ids2.length; j++) {
+            double b = tf2[j] * idf.idf(ids2[j]);
             norm2 += b * b;
         }
+
         if (norm1 == 0 || norm2 == 0)
             return 0.0;
         return dot / (Math.sqrt(norm1) * Math.sqrt(norm2));
     }
+
+    /**
+     * Tokenize a document and build its term-frequency vector.
+     */
+    public TermVector vectorize(String text) {
+        return TermVector.of(tokenize(text), termDictionary);
+    }
+
+    /**
+     * Lowercase, split on punctuation/whitespace and drop short and stop words.
+     */
+    public List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+        return Arrays.stream(text.toLowerCase().split("[\\s,;:.!?()\\[\\]{}\"\\-/]+"))
+                .filter(w -> w.length() > 2 && !STOP_WORDS.contains(w))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,41 @@
+package com.bridge.placement.service.ails;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expands normalized skills into index terms: the whole skill plus each of
+ * its words, so "spring boot" is found by "spring" and vice versa. This
+ * approximates the substring rule in UserProfile.hasSkill for candidate
+ * generation; final scoring still applies the exact rule.
+ */
+final class SkillTerms {
+
+    private SkillTerms() {
+    }
+
+    static int[] expand(List<String> skills, TermDictionary dictionary) {
+        Map<Integer, Integer> terms = new LinkedHashMap<>();
+        addAll(terms, skills, 1, dictionary);
+        return terms.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Add the skills' terms to a weighted query, keeping the highest weight
+     * when a term appears more than once.
+     */
+    static void addAll(Map<Integer, Integer> query, List<String> skills, int weight, TermDictionary dictionary) {
+        for (String skill : skills) {
+            query.merge(dictionary.intern(skill), weight, Math::max);
+            String[] words = skill.split("[^a-z0-9+#]+");
+            if (words.length > 1) {
+                for (String word : words) {
+                    if (word.length() > 1) {
+                        query.merge(dictionary.intern(word), weight, Math::max);
+                    }
+                }
+            }
+        }
+    }
+}
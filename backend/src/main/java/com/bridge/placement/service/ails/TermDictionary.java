@@ -0,0 +1,46 @@
+package com.bridge.placement.service.ails;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared dictionary that interns normalized skills and terms to int IDs.
+ *
+ * IDs are stable for the lifetime of the application, so compiled profiles
+ * can compare skills by ID instead of by string.
+ */
+@Component
+public class TermDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Return the ID for a normalized term, assigning a new one on first sight.
+     */
+    public int intern(String term) {
+        Integer id = ids.get(term);
+        if (id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(term, t -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Intern every term in order. The result is index-aligned with the input.
+     */
+    public int[] internAll(List<String> terms) {
+        int[] result = new int[terms.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = intern(terms.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return nextId.get();
+    }
+}
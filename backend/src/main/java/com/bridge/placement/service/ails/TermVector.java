@@ -0,0 +1,68 @@
+package com.bridge.placement.service.ails;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sparse term-frequency vector over TermDictionary IDs.
+ *
+ * termIds is sorted ascending and duplicate-free; frequencies[i] is the
+ * term frequency (count / total tokens) of termIds[i]. Sorted IDs let
+ * SimilarityCalculator compute dot products with a single merge pass.
+ */
+@Getter
+public final class TermVector {
+
+    public static final TermVector EMPTY = new TermVector(new int[0], new double[0]);
+
+    private final int[] termIds;
+    private final double[] frequencies;
+
+    private TermVector(int[] termIds, double[] frequencies) {
+        this.termIds = termIds;
+        this.frequencies = frequencies;
+    }
+
+    /**
+     * Build a vector from a token list, interning each token.
+     */
+    public static TermVector of(List<String> tokens, TermDictionary dictionary) {
+        int total = tokens.size();
+        if (total == 0) {
+            return EMPTY;
+        }
+
+        int[] ids = dictionary.internAll(tokens);
+        Arrays.sort(ids);
+
+        // Run-length encode the sorted IDs into (id, count) pairs
+        int distinct = 0;
+        int[] counts = new int[total];
+        for (int i = 0; i < total; i++) {
+            if (distinct > 0 && ids[distinct - 1] == ids[i]) {
+                counts[distinct - 1]++;
+            } else {
+                ids[distinct] = ids[i];
+                counts[distinct] = 1;
+                distinct++;
+            }
+        }
+
+        int[] termIds = Arrays.copyOf(ids, distinct);
+        double[] frequencies = new double[distinct];
+        for (int i = 0; i < distinct; i++) {
+            frequencies[i] = (double) counts[i] / total;
+        }
+        return new TermVector(termIds, frequencies);
+    }
+
+    public int size() {
+        return termIds.length;
+    }
+
+    public boolean isEmpty() {
+        return termIds.length == 0;
+    }
+}
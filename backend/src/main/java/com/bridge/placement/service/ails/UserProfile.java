@@ -0,0 +1,63 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.UserType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pre-parsed, immutable view of a User's resume used by AILS scoring.
+ * Built once per profile revision by ResumeParserService and cached in
+ * AilsProfileCache.
+ *
+ * Experience is not cached: it depends on today's date.
+ */
+@Getter
+@Builder
+public class UserProfile {
+
+    private final Long userId;
+
+    // Source fields — used to detect when the cached profile is stale
+    private final String skillsCsv;
+    private final String achievements;
+    private final UserType roleType;
+
+    // Compiled components
+    private final List<String> skills;
+    private final int[] skillIds; // index-aligned with skills
+    private final String achievementsLower;
+    private final TermVector corpusVector;
+    private final double educationScore;
+    private final double certificationBonus;
+
+    /**
+     * True if this profile was compiled from the user's current field values.
+     */
+    public boolean isCurrentFor(User user) {
+        return Objects.equals(skillsCsv, user.getSkills())
+                && Objects.equals(achievements, user.getAchievements())
+                && roleType == user.getRoleType();
+    }
+
+    /**
+     * Whether the user covers a job skill. Same rule as before (substring either
+     * way), with an interned-ID check first so exact matches skip the scan.
+     */
+    public boolean hasSkill(int skillId, String skill) {
+        for (int id : skillIds) {
+            if (id == skillId) {
+                return true;
+            }
+        }
+        for (String us : skills) {
+            if (us.contains(skill) || skill.contains(us)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
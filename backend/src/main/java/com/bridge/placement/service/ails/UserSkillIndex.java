@@ -0,0 +1,121 @@
+package com.bridge.placement.service.ails;
+
+import com.bridge.placement.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index from skill term -> user IDs, used to pull AILS candidates
+ * for a job without scanning every user.
+ *
+ * Only approved, unblocked users are indexed, so pending or blocked accounts
+ * never take a slot in the candidate pool. Kept current from registration,
+ * profile update, approve / block / delete, and filled at startup by
+ * CorpusWarmup. Inside a transaction, changes are applied once it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSkillIndex {
+
+    private static final int REQUIRED_WEIGHT = 2;
+    private static final int PREFERRED_WEIGHT = 1;
+
+    private final TermDictionary termDictionary;
+    private final PostingIndex index = new PostingIndex();
+
+    /**
+     * Index the user if approved and not blocked, otherwise drop them.
+     */
+    public void update(User user, UserProfile profile) {
+        if (user.getId() == null) {
+            return;
+        }
+        if (!user.isApproved() || user.isBlocked()) {
+            remove(user.getId());
+            return;
+        }
+        int docId = Math.toIntExact(user.getId());
+        int[] terms = SkillTerms.expand(profile.getSkills(), termDictionary);
+        afterCommit(() -> index.put(docId, terms));
+    }
+
+    public void remove(Long userId) {
+        int docId = Math.toIntExact(userId);
+        afterCommit(() -> index.remove(docId));
+    }
+
+    /**
+     * Users sharing the most skill terms with the job (required skills count
+     * double), best first.
+     */
+    public List<Long> candidatesFor(JobProfile job, int limit) {
+        Map<Integer, Integer> query = new LinkedHashMap<>();
+        SkillTerms.addAll(query, job.getRequiredSkills(), REQUIRED_WEIGHT, termDictionary);
+        SkillTerms.addAll(query, job.getPreferredSkills(), PREFERRED_WEIGHT, termDictionary);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        int[] terms = new int[query.size()];
+        int[] weights = new int[query.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> e : query.entrySet()) {
+            terms[i] = e.getKey();
+            weights[i++] = e.getValue();
+        }
+        return index.topDocuments(terms, weights, limit).stream()
+                .map(Integer::longValue)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Startup bulk load for CorpusWarmup: users are collected and indexed in
+     * one pass by {@link BulkLoad#finish()} rather than one put each.
+     */
+    public BulkLoad bulkLoad() {
+        return new BulkLoad();
+    }
+
+    public final class BulkLoad {
+
+        private final Map<Integer, int[]> documents = new HashMap<>();
+
+        private BulkLoad() {
+        }
+
+        public void add(User user, UserProfile profile) {
+            if (user.getId() != null && user.isApproved() && !user.isBlocked()) {
+                documents.put(Math.toIntExact(user.getId()), SkillTerms.expand(profile.getSkills(), termDictionary));
+            }
+        }
+
+        public void finish() {
+            index.putAll(documents);
+        }
+    }
+
+    private static void afterCommit(Runnable write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write.run();
+                }
+            });
+        } else {
+            write.run();
+        }
+    }
+}
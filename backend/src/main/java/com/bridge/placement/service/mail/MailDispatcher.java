@@ -0,0 +1,157 @@
+package com.bridge.placement.service.mail;
+
+import com.bridge.placement.entity.OutboundMail;
+import com.bridge.placement.enums.MailStatus;
+import com.bridge.placement.repository.OutboundMailRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drains mail_outbox in batches. Each batch goes out through a single
+ * JavaMailSender.send(...) call, which reuses one SMTP connection for all of
+ * its messages. Failed messages are retried with exponential backoff and
+ * marked FAILED after maxAttempts.
+ *
+ * The SMTP exchange itself runs on a dedicated platform thread: Jakarta
+ * Mail's transport does its socket I/O inside synchronized methods, which
+ * would pin the carrier when the scheduler runs on virtual threads.
+ */
+@Component
+public class MailDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long retainSentDays;
+    private final ExecutorService smtp = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mail-smtp");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MailDispatcher(OutboundMailRepository outboundMailRepository, JavaMailSender mailSender,
+            @Value("${bridge.mail.batchSize:50}") int batchSize,
+            @Value("${bridge.mail.maxAttempts:6}") int maxAttempts,
+            @Value("${bridge.mail.baseBackoffSeconds:30}") long baseBackoffSeconds,
+            @Value("${bridge.mail.retainSentDays:7}") long retainSentDays) {
+        this.outboundMailRepository = outboundMailRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.retainSentDays = retainSentDays;
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.mail.dispatchIntervalMs:5000}")
+    @Transactional
+    public void dispatch() {
+        List<OutboundMail> batch = outboundMailRepository.claimDue(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<SimpleMailMessage, OutboundMail> byMessage = new IdentityHashMap<>();
+        for (OutboundMail mail : batch) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            byMessage.put(message, mail);
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        MailException batchFailure = null;
+        try {
+            send(byMessage.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            // Connection / authentication problem: nothing in the batch went out
+            batchFailure = e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int failed = 0;
+        for (Map.Entry<SimpleMailMessage, OutboundMail> entry : byMessage.entrySet()) {
+            Exception error = batchFailure != null ? batchFailure : failures.get(entry.getKey());
+            OutboundMail mail = entry.getValue();
+            if (error == null) {
+                mail.setStatus(MailStatus.SENT);
+                mail.setSentAt(now);
+                mail.setLastError(null);
+            } else {
+                failed++;
+                scheduleRetry(mail, error, now);
+            }
+        }
+        if (failed > 0) {
+            log.warn("Mail dispatch: {} of {} messages failed", failed, batch.size());
+        }
+    }
+
+    @Scheduled(cron = "${bridge.mail.purgeCron:0 15 4 * * *}")
+    @Transactional
+    public void purgeSent() {
+        outboundMailRepository.deleteSentBefore(LocalDateTime.now().minusDays(retainSentDays));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        smtp.shutdown();
+    }
+
+    private void send(SimpleMailMessage[] messages) {
+        try {
+            smtp.submit(() -> mailSender.send(messages)).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MailException mailException) {
+                throw mailException;
+            }
+            throw new MailSendException("Mail send failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while sending mail", e);
+        }
+    }
+
+    private void scheduleRetry(OutboundMail mail, Exception error, LocalDateTime now) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        String message = String.valueOf(error.getMessage());
+        mail.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (attempts >= maxAttempts) {
+            mail.setStatus(MailStatus.FAILED);
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(),
+                    attempts, message);
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, baseBackoffSeconds << Math.min(attempts - 1, 20));
+        mail.setNextAttemptAt(now.plusSeconds(backoff));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bridge.placement.service.mail;
+
+import com.bridge.placement.entity.OutboundMail;
+import com.bridge.placement.repository.OutboundMailRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry point for sending email. Mail is only queued here (joining the
+ * caller's transaction, so it is dropped if that rolls back); SMTP happens
+ * in MailDispatcher, off the request thread.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    private final OutboundMailRepository outboundMailRepository;
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        OutboundMail mail = new OutboundMail();
+        mail.setRecipient(recipient);
+        mail.setSubject(subject);
+        mail.setBody(body);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        outboundMailRepository.save(mail);
+    }
+}
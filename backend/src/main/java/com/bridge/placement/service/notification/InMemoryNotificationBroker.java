@@ -0,0 +1,38 @@
+package com.bridge.placement.service.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node broker: publish delivers straight to local listeners.
+ */
+@Component
+@ConditionalOnProperty(name = "bridge.notifications.broker", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBroker implements NotificationBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryNotificationBroker.class);
+
+    private final List<Consumer<NotificationPush>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NotificationPush push) {
+        for (Consumer<NotificationPush> listener : listeners) {
+            try {
+                listener.accept(push);
+            } catch (RuntimeException e) {
+                log.warn("Notification push listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void addListener(Consumer<NotificationPush> listener) {
+        listeners.add(listener);
+    }
+}
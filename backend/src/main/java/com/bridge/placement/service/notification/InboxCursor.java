@@ -0,0 +1,74 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.dto.response.NotificationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Keyset position in the merged inbox: the last entry of the previous page.
+ * The inbox is ordered by createdAt DESC, then personal before broadcast,
+ * then id DESC, so entries sharing a timestamp are neither skipped nor
+ * repeated across pages. Serialized as {@code createdAt,SOURCE,id}.
+ */
+@Getter
+@AllArgsConstructor
+public class InboxCursor {
+
+    private final LocalDateTime createdAt;
+    private final String source;
+    private final long id;
+
+    /**
+     * Start of the inbox: everything up to a day ahead (clock skew).
+     */
+    public static InboxCursor first() {
+        return new InboxCursor(LocalDateTime.now().plusDays(1), NotificationResponse.TOPIC, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parse a cursor from X-Next-Cursor. A bare timestamp (the old format)
+     * is treated as "strictly older than".
+     */
+    public static InboxCursor parse(String value) {
+        try {
+            String[] parts = value.split(",");
+            LocalDateTime createdAt = LocalDateTime.parse(parts[0].trim());
+            if (parts.length == 1) {
+                return new InboxCursor(createdAt, NotificationResponse.PERSONAL, 0);
+            }
+            String source = parts[1].trim();
+            if (parts.length != 3
+                    || !(NotificationResponse.PERSONAL.equals(source) || NotificationResponse.TOPIC.equals(source))) {
+                throw new RuntimeException("Invalid notification cursor");
+            }
+            return new InboxCursor(createdAt, source, Long.parseLong(parts[2].trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new RuntimeException("Invalid notification cursor");
+        }
+    }
+
+    /**
+     * Personal notifications at exactly {@link #createdAt} still to come
+     * have an id below this.
+     */
+    public long personalTieId() {
+        return NotificationResponse.PERSONAL.equals(source) ? id : 0;
+    }
+
+    /**
+     * Broadcasts at exactly {@link #createdAt} still to come have an id
+     * below this. Broadcasts sort after personal entries at the same instant,
+     * so a personal cursor leaves all of them.
+     */
+    public long topicTieId() {
+        return NotificationResponse.TOPIC.equals(source) ? id : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + "," + source + "," + id;
+    }
+}
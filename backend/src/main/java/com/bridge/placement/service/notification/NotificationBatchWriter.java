@@ -0,0 +1,133 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.dto.response.NotificationResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists notifications off the request path. Events are queued after the
+ * publishing transaction commits (a rolled-back apply never notifies), and a
+ * single writer thread drains the queue into JDBC batch inserts. With
+ * rewriteBatchedStatements on the JDBC URL, MySQL gets one multi-row INSERT
+ * per batch.
+ *
+ * Delivery is best effort: if the queue is full the notification is written
+ * on the caller's thread, and anything still queued at shutdown is flushed.
+ */
+@Component
+public class NotificationBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationBatchWriter.class);
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(user_email, title, message, type, read_flag, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationBroker broker;
+    private final int batchSize;
+    private final BlockingQueue<NotificationRequestedEvent> queue;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public NotificationBatchWriter(JdbcTemplate jdbcTemplate, UnreadCountCache unreadCountCache,
+            NotificationBroker broker,
+            @Value("${bridge.notifications.batchSize:200}") int batchSize,
+            @Value("${bridge.notifications.queueCapacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.unreadCountCache = unreadCountCache;
+        this.broker = broker;
+        this.batchSize = batchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::drainLoop, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequested(NotificationRequestedEvent event) {
+        if (!queue.offer(event)) {
+            log.warn("Notification queue full; writing inline");
+            write(List.of(event));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(5000);
+        List<NotificationRequestedEvent> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+
+    private void drainLoop() {
+        List<NotificationRequestedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                NotificationRequestedEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Dropped {} notifications: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationRequestedEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            Timestamp createdAt = Timestamp.valueOf(event.getCreatedAt());
+            ps.setString(1, event.getUserEmail());
+            ps.setString(2, event.getTitle());
+            ps.setString(3, event.getMessage());
+            ps.setString(4, event.getType() != null ? event.getType().name() : null);
+            ps.setBoolean(5, false);
+            ps.setTimestamp(6, createdAt);
+            ps.setTimestamp(7, createdAt);
+        });
+        for (NotificationRequestedEvent event : events) {
+            unreadCountCache.invalidate(event.getUserEmail());
+            // Pushed once stored, so a client refetching on receipt sees it.
+            // Batch inserts return no keys, hence no id in the push.
+            broker.publish(NotificationPush.personal(event.getUserEmail(), NotificationResponse.builder()
+                    .source(NotificationResponse.PERSONAL)
+                    .userEmail(event.getUserEmail())
+                    .title(event.getTitle())
+                    .message(event.getMessage())
+                    .type(event.getType())
+                    .readFlag(false)
+                    .createdAt(event.getCreatedAt())
+                    .build()));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bridge.placement.service.notification;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out between nodes for live notification pushes. Every node registers
+ * a listener that delivers to its own open streams; {@link #publish} must
+ * reach the listeners on all nodes. Selected by bridge.notifications.broker;
+ * only "memory" (single node) ships today.
+ */
+public interface NotificationBroker {
+
+    void publish(NotificationPush push);
+
+    void addListener(Consumer<NotificationPush> listener);
+}
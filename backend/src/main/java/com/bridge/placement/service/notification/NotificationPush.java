@@ -0,0 +1,36 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.dto.response.NotificationResponse;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * A notification to push to open streams: either to one recipient or to
+ * everyone following any of the topics.
+ */
+@Getter
+public class NotificationPush {
+
+    private final String recipientEmail;
+    private final Set<String> topics;
+    private final NotificationResponse notification;
+
+    private NotificationPush(String recipientEmail, Set<String> topics, NotificationResponse notification) {
+        this.recipientEmail = recipientEmail;
+        this.topics = topics;
+        this.notification = notification;
+    }
+
+    public static NotificationPush personal(String recipientEmail, NotificationResponse notification) {
+        return new NotificationPush(recipientEmail, Set.of(), notification);
+    }
+
+    public static NotificationPush broadcast(Set<String> topics, NotificationResponse notification) {
+        return new NotificationPush(null, Set.copyOf(topics), notification);
+    }
+
+    public boolean isBroadcast() {
+        return recipientEmail == null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.enums.NotificationType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification to persist once the publishing transaction commits.
+ */
+@Getter
+public class NotificationRequestedEvent {
+
+    private final String userEmail;
+    private final String title;
+    private final String message;
+    private final NotificationType type;
+    private final LocalDateTime createdAt;
+
+    public NotificationRequestedEvent(String userEmail, String title, String message, NotificationType type) {
+        this.userEmail = userEmail;
+        this.title = title;
+        this.message = message;
+        this.type = type;
+        this.createdAt = LocalDateTime.now();
+    }
+}
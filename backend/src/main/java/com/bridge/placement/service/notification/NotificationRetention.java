@@ -0,0 +1,78 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.repository.NotificationRepository;
+import com.bridge.placement.repository.TopicNotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Nightly purge so inbox queries do not grow with account age: read
+ * personal notifications past the retention period, and broadcasts older
+ * than the inbox window (they are no longer shown anyway). Unread personal
+ * notifications are kept.
+ */
+@Component
+public class NotificationRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetention.class);
+
+    private static final int CHUNK = 5_000;
+
+    private final NotificationRepository notificationRepository;
+    private final TopicNotificationRepository topicNotificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retainReadDays;
+    private final long topicWindowDays;
+
+    public NotificationRetention(NotificationRepository notificationRepository,
+            TopicNotificationRepository topicNotificationRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${bridge.notifications.retainReadDays:90}") long retainReadDays,
+            @Value("${bridge.notifications.topicWindowDays:30}") long topicWindowDays) {
+        this.notificationRepository = notificationRepository;
+        this.topicNotificationRepository = topicNotificationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retainReadDays = retainReadDays;
+        this.topicWindowDays = topicWindowDays;
+    }
+
+    @Scheduled(cron = "${bridge.notifications.retentionCron:0 45 3 * * *}")
+    public void purge() {
+        LocalDateTime readCutoff = LocalDateTime.now().minusDays(retainReadDays);
+        int personal = 0;
+        int deleted;
+        do {
+            // One short transaction per chunk
+            deleted = transactionTemplate.execute(status -> notificationRepository.deleteReadBefore(readCutoff, CHUNK));
+            personal += deleted;
+        } while (deleted == CHUNK);
+
+        LocalDateTime topicCutoff = LocalDateTime.now().minusDays(topicWindowDays);
+        int broadcasts = 0;
+        do {
+            // Same chunking for broadcasts; ids are picked first so the topic
+            // rows and their parents go in the same short transaction
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = topicNotificationRepository.findIdsBefore(topicCutoff, CHUNK);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                topicNotificationRepository.deleteTopicsByIds(ids);
+                topicNotificationRepository.deleteByIds(ids);
+                return ids.size();
+            });
+            broadcasts += deleted;
+        } while (deleted == CHUNK);
+
+        if (personal > 0 || broadcasts > 0) {
+            log.info("Notification retention removed {} read notifications and {} broadcasts", personal, broadcasts);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.dto.response.NotificationResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open Server-Sent Events streams on this node, fed by the
+ * NotificationBroker.
+ *
+ * Each connection has a small bounded buffer drained by a shared sender
+ * pool, so one slow client never blocks the publisher or other clients.
+ * When a buffer overflows the oldest event is dropped and the client gets a
+ * "resync" event telling it to refetch the inbox. A comment heartbeat keeps
+ * proxies from closing idle streams.
+ */
+@Component
+public class NotificationStreamRegistry {
+
+    private final NotificationBroker broker;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxStreamsPerUser;
+
+    private final Map<String, Deque<Connection>> byUser = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+
+    public NotificationStreamRegistry(NotificationBroker broker,
+            @Value("${bridge.notifications.stream.timeoutMs:1800000}") long timeoutMs,
+            @Value("${bridge.notifications.stream.bufferSize:32}") int bufferSize,
+            @Value("${bridge.notifications.stream.maxPerUser:5}") int maxStreamsPerUser,
+            @Value("${bridge.notifications.stream.senderThreads:2}") int senderThreads) {
+        this.broker = broker;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        AtomicInteger counter = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void register() {
+        broker.addListener(this::deliver);
+    }
+
+    /**
+     * Open a stream for the user. {@code topics} are the broadcast topics it
+     * should receive (see NotificationService.topicsFor).
+     */
+    public SseEmitter open(String userEmail, Set<String> topics) {
+        return open(userEmail, topics, new SseEmitter(timeoutMs));
+    }
+
+    // Tests pass an emitter that records what is sent
+    SseEmitter open(String userEmail, Set<String> topics, SseEmitter emitter) {
+        Connection connection = new Connection(userEmail, Set.copyOf(topics), emitter);
+
+        Deque<Connection> userConnections = byUser.computeIfAbsent(userEmail, e -> new ConcurrentLinkedDeque<>());
+        userConnections.addLast(connection);
+        connections.add(connection);
+        while (userConnections.size() > maxStreamsPerUser) {
+            Connection oldest = userConnections.pollFirst();
+            if (oldest != null) {
+                oldest.close();
+            }
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connection.enqueue(SseEmitter.event().name("ready").data(Map.of("status", "connected")));
+        return emitter;
+    }
+
+    public int openStreams() {
+        return connections.size();
+    }
+
+    @Scheduled(fixedRateString = "${bridge.notifications.stream.heartbeatMs:25000}")
+    public void heartbeat() {
+        for (Connection connection : connections) {
+            connection.enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.forEach(Connection::close);
+        sender.shutdownNow();
+    }
+
+    private void deliver(NotificationPush push) {
+        if (push.isBroadcast()) {
+            for (Connection connection : connections) {
+                if (!Collections.disjoint(connection.topics, push.getTopics())) {
+                    connection.enqueue(notificationEvent(push.getNotification()));
+                }
+            }
+        } else {
+            Deque<Connection> userConnections = byUser.get(push.getRecipientEmail());
+            if (userConnections != null) {
+                for (Connection connection : userConnections) {
+                    connection.enqueue(notificationEvent(push.getNotification()));
+                }
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(NotificationResponse notification) {
+        return SseEmitter.event().name("notification").data(notification);
+    }
+
+    private void remove(Connection connection) {
+        connections.remove(connection);
+        byUser.computeIfPresent(connection.userEmail, (email, deque) -> {
+            deque.remove(connection);
+            return deque.isEmpty() ? null : deque;
+        });
+    }
+
+    private final class Connection {
+        private final String userEmail;
+        private final Set<String> topics;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+
+        private Connection(String userEmail, Set<String> topics, SseEmitter emitter) {
+            this.userEmail = userEmail;
+            this.topics = topics;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            while (!buffer.offer(event)) {
+                buffer.poll();
+                overflowed = true;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    // Checked per event: the buffer can overflow while this
+                    // drain is blocked on a slow client
+                    if (overflowed) {
+                        overflowed = false;
+                        emitter.send(SseEmitter.event().name("resync").data(Map.of("reason", "buffer overflow")));
+                    }
+                    SseEmitter.SseEventBuilder event = buffer.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; Spring also reports this through onError
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed && (overflowed || !buffer.isEmpty())) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                buffer.clear();
+                remove(this);
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.bridge.placement.service.notification;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Topic naming for broadcast notifications. Every recipient is implicitly
+ * subscribed to {@link #ALL}.
+ */
+public final class NotificationTopics {
+
+    public static final String ALL = "all";
+
+    private static final int MAX_LENGTH = 120;
+
+    private NotificationTopics() {
+    }
+
+    public static String skill(String skill) {
+        return normalize("skill:" + skill);
+    }
+
+    public static String location(String location) {
+        return normalize("location:" + location);
+    }
+
+    /**
+     * One skill topic per entry of a comma-separated skill list.
+     */
+    public static Set<String> skills(String csv) {
+        Set<String> topics = new LinkedHashSet<>();
+        if (csv != null) {
+            Arrays.stream(csv.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .forEach(s -> topics.add(skill(s)));
+        }
+        return topics;
+    }
+
+    /**
+     * Lowercase, collapse whitespace and clamp to the column length, so
+     * "Skill:Spring  Boot" and "skill:spring boot" are the same topic.
+     */
+    public static String normalize(String topic) {
+        String normalized = topic.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) : normalized;
+    }
+}
@@ -0,0 +1,84 @@
+package com.bridge.placement.service.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of unread counts for the navbar badge, which the
+ * frontend polls far more often than the inbox changes. Personal writes and
+ * read-marking invalidate the owner's entry (read-marking after its commit);
+ * new broadcasts show up within the TTL.
+ */
+@Component
+public class UnreadCountCache {
+
+    private static final int GENERATION_SLOTS = 1024;
+
+    private final Cache<String, Long> counts;
+    // Striped invalidation generations, as in PrincipalCache
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    public UnreadCountCache(@Value("${bridge.notifications.unreadCountTtlSeconds:30}") long ttlSeconds) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * Cached count, or {@code loader}'s result on a miss. The loader runs
+     * outside the cache so its queries never hold a map bin lock (and never
+     * pin a virtual thread). A count loaded across an invalidation is not
+     * kept; see PrincipalCache.load.
+     */
+    public long get(String userEmail, Function<String, Long> loader) {
+        Long cached = counts.getIfPresent(userEmail);
+        if (cached != null) {
+            return cached;
+        }
+        int slot = slot(userEmail);
+        long generation = generations.get(slot);
+        Long loaded = loader.apply(userEmail);
+        counts.put(userEmail, loaded);
+        if (generations.get(slot) != generation) {
+            counts.asMap().remove(userEmail, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(String userEmail) {
+        generations.incrementAndGet(slot(userEmail));
+        counts.invalidate(userEmail);
+    }
+
+    /**
+     * Invalidate once the surrounding transaction commits. Dropping the entry
+     * earlier lets a concurrent badge poll reload the pre-commit count and
+     * cache it for the full TTL.
+     */
+    public void invalidateAfterCommit(String userEmail) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userEmail);
+                }
+            });
+        } else {
+            invalidate(userEmail);
+        }
+    }
+
+    private static int slot(String userEmail) {
+        int h = userEmail.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_SLOTS - 1);
+    }
+}
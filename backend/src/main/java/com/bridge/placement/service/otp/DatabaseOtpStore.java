@@ -0,0 +1,123 @@
+package com.bridge.placement.service.otp;
+
+import com.bridge.placement.entity.PasswordResetOtp;
+import com.bridge.placement.repository.PasswordResetOtpRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Multi-node OtpStore backed by password_reset_otps. Each issue/verify
+ * locks the email's row, so attempt counting holds across instances.
+ * A burnt code keeps its row (empty hash, locked_until set) until the
+ * lockout ends. Expired rows are swept once a minute.
+ */
+@Component
+@ConditionalOnProperty(name = "bridge.otp.store", havingValue = "database")
+public class DatabaseOtpStore implements OtpStore {
+
+    private static final String BURNT = ""; // never equals a SHA-256 hex digest
+
+    private final PasswordResetOtpRepository otpRepository;
+    private final long ttlSeconds;
+    private final long resendCooldownSeconds;
+    private final int maxAttempts;
+    private final long lockoutSeconds;
+
+    public DatabaseOtpStore(PasswordResetOtpRepository otpRepository,
+            @Value("${bridge.otp.ttlSeconds:300}") long ttlSeconds,
+            @Value("${bridge.otp.resendCooldownSeconds:60}") long resendCooldownSeconds,
+            @Value("${bridge.otp.maxAttempts:5}") int maxAttempts,
+            @Value("${bridge.otp.lockoutSeconds:900}") long lockoutSeconds) {
+        this.otpRepository = otpRepository;
+        this.ttlSeconds = ttlSeconds;
+        this.resendCooldownSeconds = resendCooldownSeconds;
+        this.maxAttempts = maxAttempts;
+        this.lockoutSeconds = lockoutSeconds;
+    }
+
+    @Override
+    @Transactional
+    public boolean issue(String email, String otp) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<PasswordResetOtp> existing = otpRepository.findForUpdate(email);
+        boolean live = existing.isPresent() && isRetained(existing.get(), now);
+        if (live && (isLocked(existing.get(), now)
+                || existing.get().getIssuedAt().plusSeconds(resendCooldownSeconds).isAfter(now))) {
+            return false;
+        }
+
+        PasswordResetOtp row = existing.orElseGet(PasswordResetOtp::new);
+        row.setEmail(email);
+        row.setOtpHash(hash(otp));
+        if (!live) {
+            row.setAttempts(0); // a reissue does not reset wrong guesses
+        }
+        row.setLockedUntil(null);
+        row.setIssuedAt(now);
+        row.setExpiresAt(now.plusSeconds(ttlSeconds));
+        otpRepository.save(row);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean verify(String email, String otp) {
+        Optional<PasswordResetOtp> existing = otpRepository.findForUpdate(email);
+        if (existing.isEmpty()) {
+            return false;
+        }
+        PasswordResetOtp row = existing.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (!isRetained(row, now)) {
+            otpRepository.delete(row);
+            return false;
+        }
+        if (BURNT.equals(row.getOtpHash()) || !row.getExpiresAt().isAfter(now)) {
+            return false; // keep the tombstone until the lockout ends
+        }
+        if (otp != null && MessageDigest.isEqual(row.getOtpHash().getBytes(StandardCharsets.UTF_8),
+                hash(otp).getBytes(StandardCharsets.UTF_8))) {
+            otpRepository.delete(row);
+            return true;
+        }
+        row.setAttempts(row.getAttempts() + 1);
+        if (row.getAttempts() >= maxAttempts) {
+            row.setOtpHash(BURNT);
+            row.setLockedUntil(now.plusSeconds(lockoutSeconds));
+        }
+        return false;
+    }
+
+    private static boolean isLocked(PasswordResetOtp row, LocalDateTime now) {
+        return row.getLockedUntil() != null && row.getLockedUntil().isAfter(now);
+    }
+
+    private static boolean isRetained(PasswordResetOtp row, LocalDateTime now) {
+        return row.getExpiresAt().isAfter(now) || isLocked(row, now);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    @Transactional
+    public void purgeExpired() {
+        otpRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static String hash(String otp) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(otp.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.bridge.placement.service.otp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node OtpStore. Codes live in a map; expiry is driven by a hashed
+ * time wheel with one slot per second of TTL, so each tick only looks at the
+ * codes that expire in that second instead of scanning the whole map.
+ *
+ * A burnt code stays as a tombstone (no code, attempt count, lockout) until
+ * the lockout ends; entries retained past one turn of the wheel are simply
+ * re-slotted when their slot comes round.
+ */
+@Component
+@ConditionalOnProperty(name = "bridge.otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private final long ttlSeconds;
+    private final long resendCooldownSeconds;
+    private final int maxAttempts;
+    private final long lockoutSeconds;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryOtpStore(@Value("${bridge.otp.ttlSeconds:300}") long ttlSeconds,
+            @Value("${bridge.otp.resendCooldownSeconds:60}") long resendCooldownSeconds,
+            @Value("${bridge.otp.maxAttempts:5}") int maxAttempts,
+            @Value("${bridge.otp.lockoutSeconds:900}") long lockoutSeconds) {
+        this.ttlSeconds = ttlSeconds;
+        this.resendCooldownSeconds = resendCooldownSeconds;
+        this.maxAttempts = maxAttempts;
+        this.lockoutSeconds = lockoutSeconds;
+        // TTL + 1 slots: a code is always swept before its slot comes round again
+        this.wheel = new Set[(int) ttlSeconds + 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastTick = nowSeconds();
+    }
+
+    @Override
+    public boolean issue(String email, String otp) {
+        long now = nowSeconds();
+        boolean[] issued = new boolean[1];
+        entries.compute(email, (key, previous) -> {
+            boolean live = previous != null && previous.retainUntil() > now;
+            if (live && (previous.lockedUntil > now || now - previous.issuedAt < resendCooldownSeconds)) {
+                return previous;
+            }
+            Entry entry = new Entry(otp, now, now + ttlSeconds);
+            if (live) {
+                entry.attempts = previous.attempts; // a reissue does not reset wrong guesses
+            }
+            wheel[slot(entry.expiresAt)].add(key);
+            issued[0] = true;
+            return entry;
+        });
+        return issued[0];
+    }
+
+    @Override
+    public boolean verify(String email, String otp) {
+        long now = nowSeconds();
+        boolean[] matched = new boolean[1];
+        entries.computeIfPresent(email, (key, entry) -> {
+            if (entry.retainUntil() <= now) {
+                return null;
+            }
+            if (entry.otp == null || entry.expiresAt <= now) {
+                return entry; // burnt or expired: keep the tombstone
+            }
+            if (MessageDigest.isEqual(entry.otp.getBytes(StandardCharsets.UTF_8),
+                    otp == null ? new byte[0] : otp.getBytes(StandardCharsets.UTF_8))) {
+                matched[0] = true;
+                return null;
+            }
+            entry.attempts++;
+            if (entry.attempts >= maxAttempts) {
+                entry.otp = null;
+                entry.lockedUntil = now + lockoutSeconds;
+            }
+            return entry;
+        });
+        return matched[0];
+    }
+
+    /**
+     * Advance the wheel to the current second, dropping entries that expired
+     * in each slot passed and re-slotting tombstones that must outlive it.
+     */
+    @Scheduled(fixedRate = 1000)
+    public synchronized void tick() {
+        long now = nowSeconds();
+        for (long second = lastTick + 1; second <= now && second <= lastTick + wheel.length; second++) {
+            Set<String> slot = wheel[slot(second)];
+            for (String email : slot) {
+                slot.remove(email);
+                entries.computeIfPresent(email, (key, entry) -> {
+                    if (entry.retainUntil() <= now) {
+                        return null;
+                    }
+                    wheel[slot(Math.min(entry.retainUntil(), now + wheel.length - 1))].add(key);
+                    return entry;
+                });
+            }
+        }
+        lastTick = now;
+    }
+
+    private int slot(long epochSecond) {
+        return (int) (epochSecond % wheel.length);
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static final class Entry {
+        private String otp; // null once burnt
+        private final long issuedAt;
+        private final long expiresAt;
+        private int attempts;
+        private long lockedUntil;
+
+        private Entry(String otp, long issuedAt, long expiresAt) {
+            this.otp = otp;
+            this.issuedAt = issuedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private long retainUntil() {
+            return Math.max(expiresAt, lockedUntil);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bridge.placement.service.otp;
+
+/**
+ * One-time passwords for password reset, keyed by email.
+ *
+ * Implementations expire codes after a TTL, refuse to issue a new code
+ * while the previous one is inside its resend cooldown, and burn a code
+ * after too many wrong guesses. Wrong guesses count per email across
+ * reissues; reaching maxAttempts locks the email out of new codes for
+ * lockoutSeconds. Selected by bridge.otp.store: "memory" (single node,
+ * default) or "database" (shared by all nodes).
+ */
+public interface OtpStore {
+
+    /**
+     * Store a fresh code for the email, replacing any previous one.
+     *
+     * @return false, storing nothing, if a code was issued within the
+     *         cooldown or the email is locked out
+     */
+    boolean issue(String email, String otp);
+
+    /**
+     * Check a code. A match consumes it; a mismatch counts as an attempt and
+     * the code is burnt (and the email locked out) once attempts run out.
+     *
+     * @return true only for a live, matching code
+     */
+    boolean verify(String email, String otp);
+}
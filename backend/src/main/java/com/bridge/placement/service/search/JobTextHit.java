@@ -0,0 +1,17 @@
+package com.bridge.placement.service.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One full-text search hit: the job ID, its relevance score and a
+ * highlighted snippet (may be null).
+ */
+@Getter
+@AllArgsConstructor
+public class JobTextHit {
+
+    private final Long jobId;
+    private final float score;
+    private final String highlight;
+}
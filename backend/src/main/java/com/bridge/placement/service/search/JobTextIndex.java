@@ -0,0 +1,434 @@
+package com.bridge.placement.service.search;
+
+import com.bridge.placement.dto.request.JobSearchCriteria;
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.enums.JobType;
+import com.bridge.placement.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleFragmenter;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded Lucene index over job title, description and skill CSVs, used for
+ * free-text search on /jobs/search?q=.
+ *
+ * Writes from JobService are applied after the surrounding transaction
+ * commits, so a rolled-back change never reaches the index. On startup the
+ * index is rebuilt from MySQL if it is empty.
+ *
+ * A periodic reconcile (also run at startup) reindexes every job whose
+ * updated_at is past the last reconcile, so a write that failed or was lost
+ * in a crash is repaired rather than left stale. The watermark is stored in
+ * the Lucene commit data. Failed deletes are retried by the same pass.
+ *
+ * Those writes run on one dedicated platform thread, in commit order.
+ * IndexWriter.commit fsyncs inside a synchronized block, which would pin a
+ * virtual request thread to its carrier; a search may briefly lag the
+ * database instead.
+ */
+@Component
+public class JobTextIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobTextIndex.class);
+
+    private static final String F_ID = "id";
+    private static final String F_TITLE = "title";
+    private static final String F_DESCRIPTION = "description";
+    private static final String F_SKILLS = "skills";
+    private static final String F_LOCATION = "location";
+    private static final String F_STATUS = "status";
+    private static final String F_TYPE = "jobType";
+    private static final String F_MODE = "workMode";
+    private static final String F_DEADLINE = "deadline"; // epoch day, Long.MAX_VALUE when none
+
+    // Relevance weight per searchable field; prefix matches count half
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+    static {
+        FIELD_BOOSTS.put(F_TITLE, 3.0f);
+        FIELD_BOOSTS.put(F_SKILLS, 2.0f);
+        FIELD_BOOSTS.put(F_DESCRIPTION, 1.0f);
+    }
+    private static final float PREFIX_FACTOR = 0.5f;
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final String RECONCILED_THROUGH = "reconciledThrough";
+    // Covers transactions that committed after the previous pass started
+    private static final Duration RECONCILE_OVERLAP = Duration.ofMinutes(5);
+    private static final int FRAGMENT_SIZE = 160;
+
+    private final JobRepository jobRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final ExecutorService indexWrites = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-index-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${bridge.search.indexDir:data/job-index}")
+    private String indexDir;
+
+    private final Set<Long> failedDeletes = ConcurrentHashMap.newKeySet();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public JobTextIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(Paths.get(indexDir).toAbsolutePath().normalize());
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexWrites.shutdown();
+        indexWrites.awaitTermination(10, TimeUnit.SECONDS);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Rebuild from the database when the on-disk index is missing or empty,
+     * otherwise catch up on changes made since the last reconcile.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() throws IOException {
+        if (writer.getDocStats().numDocs > 0) {
+            reconcile();
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        int indexed = 0;
+        long afterId = 0L;
+        List<Job> page;
+        do {
+            page = jobRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Job job : page) {
+                writer.updateDocument(new Term(F_ID, job.getId().toString()), toDocument(job));
+                afterId = job.getId();
+                indexed++;
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        writer.setLiveCommitData(Map.of(RECONCILED_THROUGH, started.toString()).entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("Job search index rebuilt: {} jobs in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.search.reconcileIntervalMs:300000}",
+            initialDelayString = "${bridge.search.reconcileIntervalMs:300000}")
+    public void scheduleReconcile() {
+        indexWrites.execute(() -> {
+            try {
+                reconcile();
+            } catch (IOException | RuntimeException e) {
+                log.error("Job search index reconcile failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Reindex jobs changed since the stored watermark and retry failed
+     * deletes, then advance the watermark to this pass's start.
+     */
+    private void reconcile() throws IOException {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = reconciledThrough().minus(RECONCILE_OVERLAP);
+        int reindexed = 0;
+        long afterId = 0L;
+        List<Job> page;
+        do {
+            page = jobRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(since, afterId,
+                    PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Job job : page) {
+                writer.updateDocument(new Term(F_ID, job.getId().toString()), toDocument(job));
+                afterId = job.getId();
+                reindexed++;
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        List<Long> deletes = new ArrayList<>(failedDeletes);
+        for (Long jobId : deletes) {
+            if (!jobRepository.existsById(jobId)) {
+                writer.deleteDocuments(new Term(F_ID, jobId.toString()));
+            }
+        }
+
+        writer.setLiveCommitData(Map.of(RECONCILED_THROUGH, started.toString()).entrySet());
+        writer.commit();
+        deletes.forEach(failedDeletes::remove);
+        searcherManager.maybeRefresh();
+        if (reindexed > 0 || !deletes.isEmpty()) {
+            log.debug("Job search index reconciled: {} reindexed, {} deletes retried", reindexed, deletes.size());
+        }
+    }
+
+    private LocalDateTime reconciledThrough() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (RECONCILED_THROUGH.equals(entry.getKey())) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+        }
+        return LocalDateTime.of(1970, 1, 1, 0, 0); // index predates reconciling: check every job
+    }
+
+    /**
+     * (Re)index the job once the current transaction commits.
+     */
+    public void indexAfterCommit(Job job) {
+        Term id = new Term(F_ID, job.getId().toString());
+        Document document = toDocument(job); // snapshot now, entity may change later
+        afterCommit(() -> {
+            writer.updateDocument(id, document);
+            flush();
+        });
+    }
+
+    /**
+     * Drop the job once the current transaction commits.
+     */
+    public void deleteAfterCommit(Long jobId) {
+        Term id = new Term(F_ID, jobId.toString());
+        afterCommit(() -> {
+            try {
+                writer.deleteDocuments(id);
+                flush();
+            } catch (IOException e) {
+                failedDeletes.add(jobId); // not visible in updated_at, so remember it
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Relevance-ranked search. Every word must match title, skills or
+     * description, either exactly or as a prefix. Structured filters in the
+     * criteria are applied inside the index.
+     */
+    public List<JobTextHit> search(JobSearchCriteria criteria, int offset, int limit) {
+        Query query = buildQuery(criteria);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, offset + limit);
+                List<JobTextHit> hits = new ArrayList<>();
+                ScoreDoc[] docs = top.scoreDocs;
+                for (int i = offset; i < docs.length; i++) {
+                    Document doc = searcher.storedFields().document(docs[i].doc);
+                    hits.add(new JobTextHit(Long.valueOf(doc.get(F_ID)), docs[i].score, highlight(query, doc)));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Job search failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Query buildQuery(JobSearchCriteria criteria) {
+        List<String> words = analyze(criteria.getText());
+        if (words.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder root = new BooleanQuery.Builder();
+        for (String word : words) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            for (Map.Entry<String, Float> field : FIELD_BOOSTS.entrySet()) {
+                Term term = new Term(field.getKey(), word);
+                anyField.add(new BoostQuery(new TermQuery(term), field.getValue()), BooleanClause.Occur.SHOULD);
+                anyField.add(new BoostQuery(new PrefixQuery(term), field.getValue() * PREFIX_FACTOR),
+                        BooleanClause.Occur.SHOULD);
+            }
+            root.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        if (criteria.getStatus() != null) {
+            root.add(new TermQuery(new Term(F_STATUS, criteria.getStatus().name())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getJobTypes() != null && !criteria.getJobTypes().isEmpty()) {
+            BooleanQuery.Builder anyType = new BooleanQuery.Builder();
+            for (JobType type : criteria.getJobTypes()) {
+                anyType.add(new TermQuery(new Term(F_TYPE, type.name())), BooleanClause.Occur.SHOULD);
+            }
+            root.add(anyType.build(), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getWorkMode() != null) {
+            root.add(new TermQuery(new Term(F_MODE, criteria.getWorkMode().name())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.getDeadlineFrom() != null) {
+            root.add(LongPoint.newRangeQuery(F_DEADLINE, criteria.getDeadlineFrom().toEpochDay(), Long.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        for (String word : analyze(criteria.getLocation())) {
+            root.add(new TermQuery(new Term(F_LOCATION, word)), BooleanClause.Occur.FILTER);
+        }
+        for (String word : analyze(criteria.getSkill())) {
+            root.add(new TermQuery(new Term(F_SKILLS, word)), BooleanClause.Occur.FILTER);
+        }
+        return root.build();
+    }
+
+    private String highlight(Query query, Document doc) throws IOException {
+        SimpleHTMLFormatter formatter = new SimpleHTMLFormatter("<mark>", "</mark>");
+        for (String field : FIELD_BOOSTS.keySet()) {
+            String text = doc.get(field);
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            Highlighter highlighter = new Highlighter(formatter, new SimpleHTMLEncoder(), new QueryScorer(query, field));
+            highlighter.setTextFragmenter(new SimpleFragmenter(FRAGMENT_SIZE));
+            try {
+                String fragment = highlighter.getBestFragment(analyzer, field, text);
+                if (fragment != null) {
+                    return fragment;
+                }
+            } catch (InvalidTokenOffsetsException e) {
+                log.debug("Could not highlight job {}: {}", doc.get(F_ID), e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private Document toDocument(Job job) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, job.getId().toString(), Field.Store.YES));
+        doc.add(new TextField(F_TITLE, nullToEmpty(job.getTitle()), Field.Store.YES));
+        doc.add(new TextField(F_DESCRIPTION, nullToEmpty(job.getDescription()), Field.Store.YES));
+        doc.add(new TextField(F_SKILLS,
+                nullToEmpty(job.getRequiredSkills()) + ", " + nullToEmpty(job.getPreferredSkills()), Field.Store.YES));
+        doc.add(new TextField(F_LOCATION, nullToEmpty(job.getLocation()), Field.Store.NO));
+        if (job.getStatus() != null) {
+            doc.add(new StringField(F_STATUS, job.getStatus().name(), Field.Store.NO));
+        }
+        if (job.getJobType() != null) {
+            doc.add(new StringField(F_TYPE, job.getJobType().name(), Field.Store.NO));
+        }
+        if (job.getWorkMode() != null) {
+            doc.add(new StringField(F_MODE, job.getWorkMode().name(), Field.Store.NO));
+        }
+        doc.add(new LongPoint(F_DEADLINE, job.getApplicationDeadline() != null
+                ? job.getApplicationDeadline().toEpochDay()
+                : Long.MAX_VALUE));
+        return doc;
+    }
+
+    private List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(F_DESCRIPTION, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not analyze search text", e);
+        }
+        return words;
+    }
+
+    private void flush() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private void afterCommit(IndexWrite write) {
+        Runnable apply = () -> {
+            try {
+                write.run();
+            } catch (IOException e) {
+                // The database change stands; the next reconcile picks it up
+                log.error("Job search index update failed, will retry on reconcile: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    indexWrites.execute(apply);
+                }
+            });
+        } else {
+            indexWrites.execute(apply);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    @FunctionalInterface
+    private interface IndexWrite {
+        void run() throws IOException;
+    }
+}
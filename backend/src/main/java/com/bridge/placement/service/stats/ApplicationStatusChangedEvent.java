@@ -0,0 +1,35 @@
+package com.bridge.placement.service.stats;
+
+import com.bridge.placement.entity.Application;
+import com.bridge.placement.enums.ApplicationStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever an application is created or its status changes.
+ * {@code previousStatus} is null for a new application.
+ */
+@Getter
+public class ApplicationStatusChangedEvent {
+
+    private final Long applicationId;
+    private final Long jobId;
+    private final Long companyId;
+    private final LocalDateTime appliedAt;
+    private final ApplicationStatus previousStatus;
+    private final ApplicationStatus newStatus;
+
+    public ApplicationStatusChangedEvent(Application application, ApplicationStatus previousStatus) {
+        this.applicationId = application.getId();
+        this.jobId = application.getJob().getId();
+        this.companyId = application.getJob().getCompany().getId();
+        this.appliedAt = application.getAppliedAt();
+        this.previousStatus = previousStatus;
+        this.newStatus = application.getApplicationStatus();
+    }
+
+    public boolean isStatusChange() {
+        return previousStatus != newStatus;
+    }
+}
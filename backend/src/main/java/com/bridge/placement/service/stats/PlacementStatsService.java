@@ -0,0 +1,293 @@
+package com.bridge.placement.service.stats;
+
+import com.bridge.placement.entity.PlacementStatCounter;
+import com.bridge.placement.enums.ApplicationStatus;
+import com.bridge.placement.enums.StatDimension;
+import com.bridge.placement.repository.ApplicationRepository;
+import com.bridge.placement.repository.PlacementStatCounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Materialized application statistics.
+ *
+ * Counters live in memory as LongAdders and are updated from
+ * ApplicationStatusChangedEvent after the publishing transaction commits,
+ * so dashboard reads are map lookups instead of table scans. Deltas are
+ * flushed to the placement_stat_counters summary table every few seconds,
+ * which is loaded back on startup. A nightly reconcile recounts from the
+ * applications table to correct any drift (e.g. deltas lost in a crash).
+ */
+@Service
+@RequiredArgsConstructor
+public class PlacementStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlacementStatsService.class);
+
+    private final ApplicationRepository applicationRepository;
+    private final PlacementStatCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<StatDimension, Map<String, LongAdder>> totals = newCounterMap();
+    // Deltas not yet written to the summary table
+    private final Map<StatDimension, Map<String, AtomicLong>> pending = newCounterMap();
+    // Event updates and flushes share the read side; a rebuild takes the write side
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    // Ticket per status-change event, taken as soon as its listener runs
+    // (right after commit). A rebuild records the last ticket issued before
+    // its recount query; those changes are already in the recount.
+    private final AtomicLong eventSequence = new AtomicLong();
+    private volatile long rebuiltThrough;
+
+    // ==================== Lifecycle ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<PlacementStatCounter> rows = counterRepository.findAll();
+        if (rows.isEmpty()) {
+            rebuild();
+            return;
+        }
+        rebuildLock.writeLock().lock();
+        try {
+            totals.values().forEach(Map::clear);
+            for (PlacementStatCounter row : rows) {
+                adder(row.getDimension(), row.getBucket()).add(row.getTotal());
+            }
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.info("Placement stats loaded: {} counters", rows.size());
+    }
+
+    @Scheduled(cron = "${bridge.stats.reconcileCron:0 30 3 * * *}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ==================== Updates ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        long sequence = eventSequence.incrementAndGet();
+        rebuildLock.readLock().lock();
+        try {
+            if (sequence <= rebuiltThrough) {
+                // Committed before a rebuild's recount that ran while this
+                // listener waited for the lock: already counted
+                return;
+            }
+            if (event.getPreviousStatus() == null) {
+                if (event.getAppliedAt() != null) {
+                    add(StatDimension.MONTH, YearMonth.from(event.getAppliedAt()).toString(), 1);
+                }
+            } else if (event.isStatusChange()) {
+                adjust(event, event.getPreviousStatus(), -1);
+            } else {
+                return;
+            }
+            adjust(event, event.getNewStatus(), 1);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write pending deltas to the summary table.
+     */
+    @Scheduled(fixedDelayString = "${bridge.stats.flushIntervalMs:10000}")
+    public void flush() {
+        rebuildLock.readLock().lock();
+        try {
+            Map<StatDimension, Map<String, Long>> batch = new EnumMap<>(StatDimension.class);
+            pending.forEach((dimension, buckets) -> buckets.forEach((bucket, delta) -> {
+                long value = delta.getAndSet(0);
+                if (value != 0) {
+                    batch.computeIfAbsent(dimension, d -> new HashMap<>()).put(bucket, value);
+                }
+            }));
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach((dimension, buckets) -> buckets
+                        .forEach((bucket, value) -> counterRepository.addDelta(dimension.name(), bucket, value))));
+            } catch (RuntimeException e) {
+                // Keep the deltas for the next attempt
+                batch.forEach((dimension, buckets) -> buckets.forEach(
+                        (bucket, value) -> pendingDelta(dimension, bucket).addAndGet(value)));
+                log.warn("Placement stats flush failed, will retry: {}", e.getMessage());
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // ==================== Reads ====================
+
+    public long count(ApplicationStatus status) {
+        return get(StatDimension.STATUS, status.name());
+    }
+
+    public long totalApplications() {
+        long total = 0;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            total += count(status);
+        }
+        return total;
+    }
+
+    public Map<ApplicationStatus, Long> statusHistogram() {
+        Map<ApplicationStatus, Long> histogram = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            histogram.put(status, count(status));
+        }
+        return histogram;
+    }
+
+    /**
+     * Applications per calendar month summed over all years; index 0 = January.
+     */
+    public long[] countsByMonthOfYear() {
+        long[] months = new long[12];
+        totals.get(StatDimension.MONTH).forEach(
+                (bucket, adder) -> months[YearMonth.parse(bucket).getMonthValue() - 1] += adder.sum());
+        return months;
+    }
+
+    /**
+     * Applications SELECTED that were submitted in the given year.
+     */
+    public long placedInYear(int year) {
+        return get(StatDimension.STATUS_YEAR, ApplicationStatus.SELECTED + ":" + year);
+    }
+
+    public Map<ApplicationStatus, Long> jobStatusCounts(Long jobId) {
+        return scopedHistogram(StatDimension.JOB_STATUS, jobId);
+    }
+
+    public Map<ApplicationStatus, Long> companyStatusCounts(Long companyId) {
+        return scopedHistogram(StatDimension.COMPANY_STATUS, companyId);
+    }
+
+    // ==================== Internals ====================
+
+    private void adjust(ApplicationStatusChangedEvent event, ApplicationStatus status, long delta) {
+        add(StatDimension.STATUS, status.name(), delta);
+        add(StatDimension.JOB_STATUS, event.getJobId() + ":" + status, delta);
+        add(StatDimension.COMPANY_STATUS, event.getCompanyId() + ":" + status, delta);
+        if (event.getAppliedAt() != null) {
+            add(StatDimension.STATUS_YEAR, status + ":" + event.getAppliedAt().getYear(), delta);
+        }
+    }
+
+    private void add(StatDimension dimension, String bucket, long delta) {
+        adder(dimension, bucket).add(delta);
+        pendingDelta(dimension, bucket).addAndGet(delta);
+    }
+
+    private LongAdder adder(StatDimension dimension, String bucket) {
+        return totals.get(dimension).computeIfAbsent(bucket, b -> new LongAdder());
+    }
+
+    private AtomicLong pendingDelta(StatDimension dimension, String bucket) {
+        return pending.get(dimension).computeIfAbsent(bucket, b -> new AtomicLong());
+    }
+
+    private long get(StatDimension dimension, String bucket) {
+        LongAdder adder = totals.get(dimension).get(bucket);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    private Map<ApplicationStatus, Long> scopedHistogram(StatDimension dimension, Long scopeId) {
+        Map<ApplicationStatus, Long> histogram = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            histogram.put(status, get(dimension, scopeId + ":" + status));
+        }
+        return histogram;
+    }
+
+    /**
+     * Recount everything from the applications table (one GROUP BY query)
+     * and rewrite the summary table.
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuildLock.writeLock().lock();
+        try {
+            long through = eventSequence.get();
+            Map<StatDimension, Map<String, Long>> fresh = new EnumMap<>(StatDimension.class);
+            for (StatDimension dimension : StatDimension.values()) {
+                fresh.put(dimension, new HashMap<>());
+            }
+            for (ApplicationRepository.StatRow row : applicationRepository.countForStats()) {
+                String status = row.getStatus().name();
+                fresh.get(StatDimension.STATUS).merge(status, row.getTotal(), Long::sum);
+                fresh.get(StatDimension.JOB_STATUS).merge(row.getJobId() + ":" + status, row.getTotal(), Long::sum);
+                fresh.get(StatDimension.COMPANY_STATUS).merge(row.getCompanyId() + ":" + status, row.getTotal(),
+                        Long::sum);
+                if (row.getYear() != null && row.getMonth() != null) {
+                    fresh.get(StatDimension.MONTH).merge(YearMonth.of(row.getYear(), row.getMonth()).toString(),
+                            row.getTotal(), Long::sum);
+                    fresh.get(StatDimension.STATUS_YEAR).merge(status + ":" + row.getYear(), row.getTotal(),
+                            Long::sum);
+                }
+            }
+
+            List<PlacementStatCounter> rows = new ArrayList<>();
+            fresh.forEach((dimension, buckets) -> buckets.forEach((bucket, total) -> {
+                PlacementStatCounter counter = new PlacementStatCounter();
+                counter.setDimension(dimension);
+                counter.setBucket(bucket);
+                counter.setTotal(total);
+                rows.add(counter);
+            }));
+            transactionTemplate.executeWithoutResult(status -> {
+                counterRepository.deleteAllCounters();
+                counterRepository.saveAll(rows);
+            });
+
+            totals.values().forEach(Map::clear);
+            pending.values().forEach(Map::clear);
+            fresh.forEach((dimension, buckets) -> buckets
+                    .forEach((bucket, total) -> adder(dimension, bucket).add(total)));
+            rebuiltThrough = through;
+            log.info("Placement stats rebuilt: {} counters in {} ms", rows.size(),
+                    System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private static <V> Map<StatDimension, Map<String, V>> newCounterMap() {
+        Map<StatDimension, Map<String, V>> map = new EnumMap<>(StatDimension.class);
+        for (StatDimension dimension : StatDimension.values()) {
+            map.put(dimension, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
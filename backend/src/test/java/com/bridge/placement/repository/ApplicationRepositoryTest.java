@@ -0,0 +1,144 @@
+package com.bridge.placement.repository;
+
+import com.bridge.placement.dto.response.ApplicationSummaryResponse;
+import com.bridge.placement.entity.Application;
+import com.bridge.placement.entity.Company;
+import com.bridge.placement.entity.Job;
+import com.bridge.placement.entity.User;
+import com.bridge.placement.enums.CompanyType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The application listings must stay one statement however many rows they
+ * return: no per-row job, company or applicant loads.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ApplicationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Statistics statistics;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25})
+    void summariesByJobAreOneStatement(int applicants) {
+        Job job = job(company());
+        for (int i = 0; i < applicants; i++) {
+            apply(user(), job);
+        }
+        resetSession();
+
+        List<ApplicationSummaryResponse> summaries = applicationRepository.findSummariesByJobId(job.getId());
+
+        assertThat(summaries).hasSize(applicants);
+        assertOneStatement();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 25})
+    void summariesByUserAreOneStatement(int jobs) {
+        User user = user();
+        for (int i = 0; i < jobs; i++) {
+            // A company per job, so company rows are not shared either
+            apply(user, job(company()));
+        }
+        resetSession();
+
+        List<ApplicationSummaryResponse> summaries = applicationRepository.findSummariesByUserId(user.getId());
+
+        assertThat(summaries).hasSize(jobs);
+        assertOneStatement();
+    }
+
+    @Test
+    void summaryCarriesJobCompanyAndApplicant() {
+        Company company = company();
+        Job job = job(company);
+        User user = user();
+        user.setMiddleName("K");
+        Application application = apply(user, job);
+        resetSession();
+
+        ApplicationSummaryResponse summary = applicationRepository.findSummariesByUserId(user.getId()).get(0);
+
+        assertThat(summary.getId()).isEqualTo(application.getId());
+        assertThat(summary.getJob().getTitle()).isEqualTo(job.getTitle());
+        assertThat(summary.getJob().getCompany().getName()).isEqualTo(company.getName());
+        assertThat(summary.getUser().getFullName()).isEqualTo(user.getFirstName() + " K " + user.getLastName());
+        assertThat(summary.getUser().getEmail()).isEqualTo(user.getEmail());
+    }
+
+    private void resetSession() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void assertOneStatement() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Company company() {
+        int n = ++sequence;
+        Company company = new Company();
+        company.setName("Company " + n);
+        company.setDomainEmail("hr" + n + "@company.example");
+        company.setPassword("secret");
+        company.setCompanyType(CompanyType.PRODUCT_BASED);
+        company.setApproved(true);
+        return entityManager.persist(company);
+    }
+
+    private Job job(Company company) {
+        Job job = new Job();
+        job.setTitle("Backend Developer " + (++sequence));
+        job.setCompany(company);
+        return entityManager.persist(job);
+    }
+
+    private User user() {
+        int n = ++sequence;
+        User user = new User();
+        user.setFirstName("Student");
+        user.setLastName("No" + n);
+        user.setEmail("student" + n + "@example.com");
+        user.setPassword("secret");
+        user.setApproved(true);
+        return entityManager.persist(user);
+    }
+
+    private Application apply(User user, Job job) {
+        Application application = new Application();
+        application.setUser(user);
+        application.setJob(job);
+        application.setAppliedAt(LocalDateTime.now());
+        return entityManager.persist(application);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bridge.placement.service.ails;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingIndexTest {
+
+    private final PostingIndex index = new PostingIndex();
+
+    @Test
+    void ranksByWeightedHitsThenId() {
+        index.put(1, new int[] { 10 });
+        index.put(2, new int[] { 10, 20 });
+        index.put(3, new int[] { 20 });
+        index.put(4, new int[] { 10, 20 });
+
+        // term 20 weighs double: 2 and 4 score 3, 3 scores 2, 1 scores 1
+        assertThat(index.topDocuments(new int[] { 10, 20 }, new int[] { 1, 2 }, 10)).containsExactly(2, 4, 3, 1);
+        assertThat(index.topDocuments(new int[] { 10, 20 }, new int[] { 1, 2 }, 2)).containsExactly(2, 4);
+        assertThat(index.topDocuments(new int[] { 99 }, new int[] { 1 }, 5)).isEmpty();
+    }
+
+    @Test
+    void bulkLoadMatchesOneByOnePuts() {
+        PostingIndex oneByOne = new PostingIndex();
+        Map<Integer, int[]> documents = new LinkedHashMap<>();
+        for (int docId = 500; docId > 0; docId--) {
+            int[] terms = { docId % 3, docId % 7 + 10, 42 };
+            documents.put(docId, terms);
+            oneByOne.put(docId, terms);
+        }
+        index.put(7, new int[] { 1 });
+
+        index.putAll(documents);
+
+        int[] query = { 0, 12, 42 };
+        int[] weights = { 3, 2, 1 };
+        assertThat(index.size()).isEqualTo(500);
+        assertThat(index.topDocuments(query, weights, 50)).isEqualTo(oneByOne.topDocuments(query, weights, 50));
+    }
+
+    @Test
+    void removeAndReplaceUpdatePostings() {
+        index.put(1, new int[] { 10, 20 });
+        index.put(2, new int[] { 10 });
+        index.put(1, new int[] { 30 });
+        index.remove(2);
+
+        assertThat(index.topDocuments(new int[] { 10 }, new int[] { 1 }, 10)).isEmpty();
+        assertThat(index.topDocuments(new int[] { 30 }, new int[] { 1 }, 10)).containsExactly(1);
+        assertThat(index.contains(2)).isFalse();
+    }
+}
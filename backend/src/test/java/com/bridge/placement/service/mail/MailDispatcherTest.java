@@ -0,0 +1,149 @@
+package com.bridge.placement.service.mail;
+
+import com.bridge.placement.entity.OutboundMail;
+import com.bridge.placement.enums.MailStatus;
+import com.bridge.placement.repository.OutboundMailRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MailDispatcherTest {
+
+    private static final long BASE_BACKOFF_SECONDS = 30;
+    private static final int MAX_ATTEMPTS = 6;
+
+    private final OutboundMailRepository repository = mock(OutboundMailRepository.class);
+    private final FakeMailSender sender = new FakeMailSender();
+    private final MailDispatcher dispatcher = new MailDispatcher(repository, sender, 50, MAX_ATTEMPTS,
+            BASE_BACKOFF_SECONDS, 7);
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void deliveredBatchIsMarkedSent() {
+        OutboundMail first = mail("a@example.com", 0);
+        OutboundMail second = mail("b@example.com", 0);
+        claim(first, second);
+
+        dispatcher.dispatch();
+
+        assertThat(sender.sent).hasSize(2);
+        assertThat(first.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(second.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(first.getSentAt()).isNotNull();
+    }
+
+    @Test
+    void connectionFailureRetriesWholeBatchAfterBaseBackoff() {
+        OutboundMail first = mail("a@example.com", 0);
+        OutboundMail second = mail("b@example.com", 0);
+        claim(first, second);
+        sender.failWith = messages -> new MailSendException("Connection refused");
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        for (OutboundMail mail : List.of(first, second)) {
+            assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+            assertThat(mail.getAttempts()).isEqualTo(1);
+            assertThat(mail.getLastError()).contains("Connection refused");
+            assertThat(mail.getNextAttemptAt())
+                    .isCloseTo(before.plusSeconds(BASE_BACKOFF_SECONDS), within(5, ChronoUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void onlyRejectedMessagesAreRetried() {
+        OutboundMail good = mail("good@example.com", 0);
+        OutboundMail bad = mail("bad@example.com", 0);
+        claim(good, bad);
+        sender.failWith = messages -> new MailSendException(Map.of(
+                Arrays.stream(messages).filter(m -> m.getTo()[0].startsWith("bad")).findFirst().orElseThrow(),
+                new Exception("550 mailbox unavailable")));
+
+        dispatcher.dispatch();
+
+        assertThat(good.getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(bad.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(bad.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void backoffDoublesWithEachAttempt() {
+        OutboundMail mail = mail("a@example.com", 2);
+        claim(mail);
+        sender.failWith = messages -> new MailSendException("Connection refused");
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+
+        assertThat(mail.getAttempts()).isEqualTo(3);
+        assertThat(mail.getNextAttemptAt())
+                .isCloseTo(before.plusSeconds(BASE_BACKOFF_SECONDS * 4), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        OutboundMail mail = mail("a@example.com", MAX_ATTEMPTS - 1);
+        claim(mail);
+        sender.failWith = messages -> new MailSendException("Connection refused");
+
+        dispatcher.dispatch();
+
+        assertThat(mail.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.FAILED);
+    }
+
+    private void claim(OutboundMail... mails) {
+        when(repository.claimDue(any(), anyInt())).thenReturn(List.of(mails));
+    }
+
+    private static OutboundMail mail(String recipient, int attempts) {
+        OutboundMail mail = new OutboundMail();
+        mail.setRecipient(recipient);
+        mail.setSubject("Subject");
+        mail.setBody("Body");
+        mail.setAttempts(attempts);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        return mail;
+    }
+
+    /**
+     * Stands in for the SMTP server: records what was sent, or fails the
+     * batch with the configured exception.
+     */
+    private static final class FakeMailSender extends JavaMailSenderImpl {
+
+        private final List<SimpleMailMessage> sent = new ArrayList<>();
+        private Function<SimpleMailMessage[], MailException> failWith;
+
+        @Override
+        public void send(SimpleMailMessage... messages) {
+            if (failWith != null) {
+                throw failWith.apply(messages);
+            }
+            sent.addAll(List.of(messages));
+        }
+    }
+}
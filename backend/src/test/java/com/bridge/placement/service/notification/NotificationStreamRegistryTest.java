@@ -0,0 +1,137 @@
+package com.bridge.placement.service.notification;
+
+import com.bridge.placement.dto.response.NotificationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationStreamRegistryTest {
+
+    private static final int BUFFER_SIZE = 4;
+    private static final String EMAIL = "student@example.com";
+
+    private final InMemoryNotificationBroker broker = new InMemoryNotificationBroker();
+    private NotificationStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new NotificationStreamRegistry(broker, 60_000, BUFFER_SIZE, 5, 1);
+        registry.register();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void deliversPersonalPushesInOrder() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(4, false);
+        registry.open(EMAIL, Set.of(), emitter);
+
+        for (int i = 0; i < 3; i++) {
+            broker.publish(push(i));
+        }
+
+        assertThat(emitter.awaitSends()).isTrue();
+        assertThat(emitter.events).containsExactly("ready", "notification", "notification", "notification");
+        assertThat(emitter.titles).containsExactly("n0", "n1", "n2");
+    }
+
+    @Test
+    void slowClientGetsResyncAndNewestEventsAfterOverflow() throws InterruptedException {
+        // ready + resync + the BUFFER_SIZE newest notifications
+        RecordingEmitter emitter = new RecordingEmitter(2 + BUFFER_SIZE, true);
+        registry.open(EMAIL, Set.of(), emitter);
+        assertThat(emitter.firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The sender is stuck on "ready", so these pile up in the buffer
+        for (int i = 0; i < 10; i++) {
+            broker.publish(push(i));
+        }
+        emitter.release.countDown();
+
+        assertThat(emitter.awaitSends()).isTrue();
+        assertThat(emitter.events).containsExactly("ready", "resync",
+                "notification", "notification", "notification", "notification");
+        assertThat(emitter.titles).containsExactly("n6", "n7", "n8", "n9");
+    }
+
+    @Test
+    void otherUsersDoNotReceivePersonalPushes() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(1, false);
+        registry.open("someone@example.com", Set.of(), emitter);
+
+        broker.publish(push(0));
+
+        assertThat(emitter.awaitSends()).isTrue();
+        Thread.sleep(100);
+        assertThat(emitter.events).containsExactly("ready");
+    }
+
+    private static NotificationPush push(int i) {
+        return NotificationPush.personal(EMAIL, NotificationResponse.builder()
+                .source(NotificationResponse.PERSONAL)
+                .userEmail(EMAIL)
+                .title("n" + i)
+                .build());
+    }
+
+    /**
+     * Records event names and notification titles instead of writing to a
+     * response. Optionally blocks on the first send to act as a slow client.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> titles = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private final CountDownLatch sends;
+
+        private RecordingEmitter(int expectedSends, boolean blockFirstSend) {
+            this.sends = new CountDownLatch(expectedSends);
+            this.release = new CountDownLatch(blockFirstSend ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            firstSendStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String text) {
+                    Matcher matcher = EVENT_NAME.matcher(text);
+                    if (matcher.find()) {
+                        events.add(matcher.group(1));
+                    }
+                } else if (part.getData() instanceof NotificationResponse notification) {
+                    titles.add(notification.getTitle());
+                }
+            }
+            sends.countDown();
+        }
+
+        private boolean awaitSends() throws InterruptedException {
+            return sends.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bridge.placement.service.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCountCacheTest {
+
+    private static final String EMAIL = "student@example.com";
+
+    private final UnreadCountCache cache = new UnreadCountCache(60);
+
+    @Test
+    void cachesLoadedCount() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(EMAIL, email -> (long) loads.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.get(EMAIL, email -> (long) loads.incrementAndGet())).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void countLoadedAcrossInvalidationIsNotKept() {
+        // The invalidation lands while the (stale) count is being loaded
+        long stale = cache.get(EMAIL, email -> {
+            cache.invalidate(EMAIL);
+            return 5L;
+        });
+
+        assertThat(stale).isEqualTo(5);
+        assertThat(cache.get(EMAIL, email -> 0L)).isZero();
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        cache.get(EMAIL, email -> 3L);
+        cache.invalidateAfterCommit(EMAIL);
+
+        assertThat(cache.get(EMAIL, email -> 2L)).isEqualTo(2);
+    }
+}
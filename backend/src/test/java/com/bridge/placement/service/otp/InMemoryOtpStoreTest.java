@@ -0,0 +1,70 @@
+package com.bridge.placement.service.otp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryOtpStoreTest {
+
+    private static final String EMAIL = "student@example.com";
+
+    @Test
+    void correctCodeIsConsumedOnce() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 60, 5, 900);
+        assertThat(store.issue(EMAIL, "123456")).isTrue();
+
+        assertThat(store.verify(EMAIL, "123456")).isTrue();
+        assertThat(store.verify(EMAIL, "123456")).isFalse();
+    }
+
+    @Test
+    void reissueInsideCooldownIsRefused() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 60, 5, 900);
+        assertThat(store.issue(EMAIL, "123456")).isTrue();
+
+        assertThat(store.issue(EMAIL, "654321")).isFalse();
+        assertThat(store.verify(EMAIL, "123456")).isTrue();
+    }
+
+    @Test
+    void runningOutOfAttemptsBurnsTheCodeAndLocksOutReissue() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 0, 5, 900);
+        store.issue(EMAIL, "123456");
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.verify(EMAIL, "000000")).isFalse();
+        }
+
+        assertThat(store.verify(EMAIL, "123456")).isFalse();
+        // No cooldown configured, so only the lockout can refuse this
+        assertThat(store.issue(EMAIL, "111111")).isFalse();
+        assertThat(store.verify(EMAIL, "111111")).isFalse();
+    }
+
+    @Test
+    void wrongGuessesCarryOverAcrossReissues() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 0, 5, 900);
+        store.issue(EMAIL, "123456");
+        for (int i = 0; i < 3; i++) {
+            store.verify(EMAIL, "000000");
+        }
+
+        assertThat(store.issue(EMAIL, "222222")).isTrue();
+        store.verify(EMAIL, "000000");
+        store.verify(EMAIL, "000000"); // fifth wrong guess overall
+
+        assertThat(store.verify(EMAIL, "222222")).isFalse();
+        assertThat(store.issue(EMAIL, "333333")).isFalse();
+    }
+
+    @Test
+    void attemptsAreTrackedPerEmail() {
+        InMemoryOtpStore store = new InMemoryOtpStore(300, 0, 5, 900);
+        store.issue(EMAIL, "123456");
+        store.issue("other@example.com", "999999");
+        for (int i = 0; i < 5; i++) {
+            store.verify(EMAIL, "000000");
+        }
+
+        assertThat(store.verify("other@example.com", "999999")).isTrue();
+    }
+}
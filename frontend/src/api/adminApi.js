@@ -35,7 +35,8 @@ export const adminApi = {
     deleteOfficer: (id) => api.delete(`/admin/officer/${id}`),
 
     // Kanban
-    getStudentProgress: () => api.get('/admin/student-progress'),
+    getStudentProgress: (status, page = 0, size = 50) =>
+        api.get('/admin/student-progress', { params: { status, page, size } }),
     updateStudentProgress: (studentId, data) => api.put(`/admin/student-progress/${studentId}`, data),
 
     // Reports
@@ -8,5 +8,7 @@ export const officerApi = {
     getJobs: () => api.get('/officer/jobs'),
     createJob: (data) => api.post('/officer/job', data),
     updateJob: (id, data) => api.put(`/officer/job/${id}`, data),
-    closeJob: (id) => api.put(`/officer/job/${id}/close`)
+    closeJob: (id) => api.put(`/officer/job/${id}/close`),
+    getShortlist: (jobId, limit = 20) => api.get(`/officer/job/${jobId}/shortlist?limit=${limit}`),
+    getRecommendedCandidates: (jobId, limit = 20) => api.get(`/officer/job/${jobId}/recommended-candidates?limit=${limit}`)
 };
@@ -1,17 +1,19 @@
 import api from './axios';
 
 export const publicApi = {
-    searchJobs: (location, type) => {
-        let url = '/jobs/search';
+    // Server-side filtered, keyset-paged search. The next page's cursor
+    // comes back in the X-Next-Cursor header (absent on the last page).
+    searchJobs: ({ q, location, types = [], cursor, size } = {}) => {
         const params = new URLSearchParams();
+        if (q) params.append('q', q);
         if (location) params.append('location', location);
-        if (type) params.append('type', type);
+        types.forEach(type => params.append('type', type));
+        if (cursor != null) params.append('cursor', cursor);
+        if (size) params.append('size', size);
 
         const queryString = params.toString();
-        if (queryString) {
-            url += `?${queryString}`;
-        }
-        return api.get(url);
+        return api.get(queryString ? `/jobs/search?${queryString}` : '/jobs/search');
     },
+    nextCursor: (res) => res.headers?.['x-next-cursor'] ?? null,
     getJobDetails: (id) => api.get(`/jobs/${id}`) // Assuming this might be added later
 };
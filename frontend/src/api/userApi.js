@@ -5,4 +5,5 @@ export const userApi = {
     updateProfile: (data) => api.put('/user/profile', data),
     getApplications: () => api.get('/user/applications'),
     applyToJob: (jobId) => api.post(`/user/apply/${jobId}`),
+    getRecommendedJobs: (page = 0, size = 10) => api.get(`/user/recommended-jobs?page=${page}&size=${size}`),
 };
@@ -11,18 +11,39 @@ const COLUMNS = [
     { id: 'REJECTED', title: 'Rejected', color: 'border-danger' },
 ];
 
+const COLUMN_PAGE_SIZE = 50;
+
 export default function Kanban() {
     const [students, setStudents] = useState([]);
     const [loading, setLoading] = useState(true);
     const [draggedItem, setDraggedItem] = useState(null);
+    // Per column: last loaded page and whether a full page came back
+    const [columnPages, setColumnPages] = useState({});
+
+    // Cards are paged per column so large boards are never truncated
+    const loadColumn = async (status, page) => {
+        const res = await adminApi.getStudentProgress(status, page, COLUMN_PAGE_SIZE);
+        const cards = Array.isArray(res.data) ? res.data : [];
+        setStudents(prev => {
+            const seen = new Set(prev.map(s => s.id));
+            return [...prev, ...cards.filter(c => !seen.has(c.id))];
+        });
+        setColumnPages(prev => ({ ...prev, [status]: { page, hasMore: cards.length === COLUMN_PAGE_SIZE } }));
+    };
 
     useEffect(() => {
-        adminApi.getStudentProgress()
-            .then(res => setStudents(Array.isArray(res.data) ? res.data : []))
+        Promise.all(COLUMNS.map(col => loadColumn(col.id, 0)))
             .catch(err => console.error("Failed to load kanban", err))
             .finally(() => setLoading(false));
     }, []);
 
+    const loadMore = (status) => {
+        const current = columnPages[status];
+        if (!current?.hasMore) return;
+        loadColumn(status, current.page + 1)
+            .catch(err => console.error("Failed to load more cards", err));
+    };
+
     const handleDragStart = (e, student) => {
         setDraggedItem(student);
         e.dataTransfer.effectAllowed = 'move';
@@ -101,7 +122,7 @@ export default function Kanban() {
                                 {column.title}
                             </h3>
                             <span className="text-xs bg-black/20 px-2 py-1 rounded-full font-medium">
-                                {groupedStudents[column.id]?.length || 0}
+                                {groupedStudents[column.id]?.length || 0}{columnPages[column.id]?.hasMore ? '+' : ''}
                             </span>
                         </div>
 
@@ -122,6 +143,14 @@ export default function Kanban() {
                                     </div>
                                 </div>
                             ))}
+                            {columnPages[column.id]?.hasMore && (
+                                <button
+                                    onClick={() => loadMore(column.id)}
+                                    className="w-full py-2 text-xs text-text-secondary hover:text-primary border border-dashed border-white/10 rounded-xl transition-colors"
+                                >
+                                    Load more
+                                </button>
+                            )}
                         </div>
                     </div>
                 ))}
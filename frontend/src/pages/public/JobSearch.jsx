@@ -12,6 +12,8 @@ const JOB_TYPES = [
     { value: 'WORK_FROM_HOME', label: 'Work From Home' },
 ];
 
+const PAGE_SIZE = 20;
+
 const EXPERIENCE_LEVELS = [
     { value: 'FRESHER', label: 'Fresher (0-1 yr)', min: 0, max: 1 },
     { value: 'JUNIOR', label: 'Junior (1-3 yr)', min: 1, max: 3 },
@@ -61,6 +63,8 @@ export default function JobSearch() {
     const [jobs, setJobs] = useState([]);
     const [allJobs, setAllJobs] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
+    const [nextCursor, setNextCursor] = useState(null);
     const [keyword, setKeyword] = useState('');
     const [location, setLocation] = useState('');
     const [selectedTypes, setSelectedTypes] = useState([]);
@@ -82,45 +86,53 @@ export default function JobSearch() {
 
     const hasFilters = keyword || location || selectedTypes.length || selectedExp.length || selectedSalary.length;
 
+    // Keyword, location and type are filtered by the server; refetch the
+    // first page (debounced) whenever they change
+    const searchParams = () => ({
+        q: keyword.trim(),
+        location: location.trim(),
+        types: selectedTypes,
+        size: PAGE_SIZE,
+    });
+
     useEffect(() => {
-        const fetchJobs = async () => {
+        let cancelled = false;
+        const timer = setTimeout(async () => {
             setLoading(true);
             try {
-                const res = await publicApi.searchJobs('', '');
+                const res = await publicApi.searchJobs(searchParams());
+                if (cancelled) return;
                 setAllJobs(Array.isArray(res.data) ? res.data : []);
+                setNextCursor(publicApi.nextCursor(res));
             } catch (err) {
                 console.error('Failed to load jobs', err);
             } finally {
-                setLoading(false);
+                if (!cancelled) setLoading(false);
             }
+        }, 300);
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
         };
-        fetchJobs();
-    }, []);
-
-    // Client-side filter whenever deps change
-    useEffect(() => {
-        let filtered = [...allJobs];
-
-        // Keyword: search title, description, required skills
-        if (keyword.trim()) {
-            const kw = keyword.toLowerCase();
-            filtered = filtered.filter(j =>
-                j.title?.toLowerCase().includes(kw) ||
-                j.description?.toLowerCase().includes(kw) ||
-                j.requiredSkills?.toLowerCase().includes(kw)
-            );
-        }
+    }, [keyword, location, selectedTypes]);
 
-        // Location
-        if (location.trim()) {
-            const loc = location.toLowerCase();
-            filtered = filtered.filter(j => j.location?.toLowerCase().includes(loc));
+    const loadMore = async () => {
+        if (!nextCursor || loadingMore) return;
+        setLoadingMore(true);
+        try {
+            const res = await publicApi.searchJobs({ ...searchParams(), cursor: nextCursor });
+            setAllJobs(prev => [...prev, ...(Array.isArray(res.data) ? res.data : [])]);
+            setNextCursor(publicApi.nextCursor(res));
+        } catch (err) {
+            console.error('Failed to load more jobs', err);
+        } finally {
+            setLoadingMore(false);
         }
+    };
 
-        // Job Type
-        if (selectedTypes.length > 0) {
-            filtered = filtered.filter(j => selectedTypes.includes(j.jobType));
-        }
+    // Experience and salary are refined client-side over the loaded pages
+    useEffect(() => {
+        let filtered = [...allJobs];
 
         // Experience Level — client-side using experienceRequired field
         if (selectedExp.length > 0) {
@@ -141,7 +153,7 @@ export default function JobSearch() {
         }
 
         setJobs(filtered);
-    }, [allJobs, keyword, location, selectedTypes, selectedExp, selectedSalary]);
+    }, [allJobs, selectedExp, selectedSalary]);
 
     const handleApply = (jobId) => {
         const token = localStorage.getItem('token');
@@ -268,7 +280,7 @@ export default function JobSearch() {
                         <div className="flex items-center justify-between mb-4 border-b border-white/10 pb-4">
                             <h2 className="text-xl font-bold text-white">Search Results</h2>
                             <span className="text-sm bg-white/10 px-3 py-1 rounded-full text-text-secondary border border-white/10">
-                                {loading ? '...' : `${jobs.length} Jobs Found`}
+                                {loading ? '...' : `${jobs.length}${nextCursor ? '+' : ''} Jobs Found`}
                             </span>
                         </div>
 
@@ -329,6 +341,18 @@ export default function JobSearch() {
                                 </motion.div>
                             ))
                         )}
+
+                        {!loading && nextCursor && (
+                            <div className="flex justify-center pt-4">
+                                <button
+                                    onClick={loadMore}
+                                    disabled={loadingMore}
+                                    className="px-6 py-2 bg-white/5 border border-white/10 hover:border-primary/40 text-white rounded-xl text-sm transition-colors disabled:opacity-50"
+                                >
+                                    {loadingMore ? 'Loading...' : 'Load more jobs'}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 </div>
             </div>
@@ -28,7 +28,7 @@ export default function UserDashboard() {
                 const [profileRes, appsRes, jobsRes] = await Promise.allSettled([
                     userApi.getProfile(),
                     userApi.getApplications ? userApi.getApplications() : Promise.reject(),
-                    publicApi.searchJobs()
+                    publicApi.searchJobs({ size: 3 })
                 ]);
 
                 if (profileRes.status === 'fulfilled') setProfile(profileRes.value.data);
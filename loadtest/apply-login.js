@@ -0,0 +1,91 @@
+// Concurrent login + apply traffic against the Bridge backend (k6).
+//
+//   k6 run -e BASE_URL=http://localhost:9092/api \
+//          -e USERS=alice@example.com:Passw0rd!,bob@example.com:Passw0rd! \
+//          -e JOB_IDS=1,2,3 loadtest/apply-login.js
+//
+// USERS must be approved USER accounts and JOB_IDS open jobs. After the
+// first pass most applies are repeats, which the backend answers with
+// "already applied" after the same lookups. Business-rule rejections (400,
+// e.g. a closed job) are counted in apply_rejected rather than as failures.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9092/api';
+const USERS = (__ENV.USERS || '').split(',').filter(Boolean).map((pair) => {
+    const i = pair.indexOf(':');
+    return { email: pair.slice(0, i), password: pair.slice(i + 1) };
+});
+const JOB_IDS = (__ENV.JOB_IDS || '1').split(',').map(Number);
+const VUS = Number(__ENV.VUS || 200);
+const DURATION = __ENV.DURATION || '2m';
+
+const loginLatency = new Trend('login_latency', true);
+const applyLatency = new Trend('apply_latency', true);
+const loginThrottled = new Counter('login_throttled');
+const applyRejected = new Counter('apply_rejected');
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-vus',
+            exec: 'login',
+            vus: Math.max(1, Math.floor(VUS / 4)),
+            duration: DURATION,
+        },
+        apply: {
+            executor: 'constant-vus',
+            exec: 'apply',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function signIn(user) {
+    const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify(user),
+        Object.assign({ responseCallback: http.expectedStatuses(200, 429) }, JSON_HEADERS));
+    loginLatency.add(res.timings.duration);
+    if (res.status === 429) {
+        loginThrottled.add(1);
+        return null;
+    }
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.status === 200 ? res.json('token') : null;
+}
+
+export function setup() {
+    if (USERS.length === 0) {
+        throw new Error('Set USERS=email:password[,email:password...]');
+    }
+    const tokens = USERS.map(signIn).filter(Boolean);
+    if (tokens.length === 0) {
+        throw new Error('No USERS could log in');
+    }
+    return { tokens };
+}
+
+export function login() {
+    signIn(USERS[Math.floor(Math.random() * USERS.length)]);
+}
+
+export function apply(data) {
+    const token = data.tokens[(__VU + __ITER) % data.tokens.length];
+    const jobId = JOB_IDS[__ITER % JOB_IDS.length];
+    const res = http.post(`${BASE_URL}/user/apply/${jobId}`, null, {
+        headers: { Authorization: `Bearer ${token}` },
+        responseCallback: http.expectedStatuses(200, 400),
+    });
+    applyLatency.add(res.timings.duration);
+    if (res.status === 400) {
+        applyRejected.add(1);
+    }
+    check(res, { 'apply answered': (r) => r.status === 200 || r.status === 400 });
+}